@@ -4,6 +4,8 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 
+import java.time.LocalDateTime;
+
 @Data
 @EqualsAndHashCode(callSuper = false)
 @JsonIgnoreProperties(value = {"externalIdMap"}, allowSetters = true)
@@ -12,5 +14,8 @@ public class BankAccountEntity extends BankAccount {
     private String id;
     private String bankAccessId;
     private String userId;
+    //node and start time of a running sync, a sync of a crashed node is detected by them
+    private String syncNode;
+    private LocalDateTime syncStartTime;
 
 }
@@ -0,0 +1,18 @@
+package de.adorsys.multibanking.domain;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * FinTS bank parameter data (BPD) of one bank, shared by all users of the bank.
+ */
+@Data
+public class BankParameterDataEntity {
+
+    private String id;
+    private String bpdVersion;
+    private Map<String, String> bpd;
+    private LocalDateTime updateTime;
+}
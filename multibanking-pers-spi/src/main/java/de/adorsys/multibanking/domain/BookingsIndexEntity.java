@@ -15,7 +15,9 @@ public class BookingsIndexEntity {
     private Map<String, List<String>> bookingIdSearchList;
 
     public void updateSearchIndex(List<BookingEntity> bookings) {
-        bookingIdSearchList = new HashMap<>();
+        if (bookingIdSearchList == null) {
+            bookingIdSearchList = new HashMap<>();
+        }
         new LinkedList<>(bookings)
             .descendingIterator()
             .forEachRemaining(booking -> {
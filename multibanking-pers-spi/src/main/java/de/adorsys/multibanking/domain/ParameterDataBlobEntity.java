@@ -0,0 +1,18 @@
+package de.adorsys.multibanking.domain;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * FinTS parameter data (UPD, BPD) addressed by the sha-256 hash of its content, shared by all consents with the same
+ * parameter data.
+ */
+@Data
+public class ParameterDataBlobEntity {
+
+    private String id;
+    private Map<String, String> data;
+    private LocalDateTime createdDate;
+}
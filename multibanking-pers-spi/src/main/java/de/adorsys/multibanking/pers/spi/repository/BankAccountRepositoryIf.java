@@ -3,6 +3,7 @@ package de.adorsys.multibanking.pers.spi.repository;
 import de.adorsys.multibanking.domain.BankAccount;
 import de.adorsys.multibanking.domain.BankAccountEntity;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,6 +29,19 @@ public interface BankAccountRepositoryIf {
 
     void updateSyncStatus(String accountId, BankAccount.SyncStatus syncStatus);
 
+    /**
+     * Sets the sync status to {@link BankAccount.SyncStatus#SYNC} and records the syncing node and the start time.
+     */
+    void startSync(String accountId, String syncNode);
+
+    /**
+     * Resets the accounts in sync of the given node and the accounts in sync since before the given time to
+     * {@link BankAccount.SyncStatus#PENDING}.
+     *
+     * @return number of reset accounts
+     */
+    long resetStaleSyncStatus(String syncNode, LocalDateTime startedBefore);
+
     List<BankAccountEntity> deleteByBankAccess(String accessId);
 
     Optional<BankAccountEntity> findOne(String accountId);
@@ -0,0 +1,13 @@
+package de.adorsys.multibanking.pers.spi.repository;
+
+import de.adorsys.multibanking.domain.BankParameterDataEntity;
+
+import java.util.Optional;
+
+public interface BankParameterDataRepositoryIf {
+
+    Optional<BankParameterDataEntity> findByBankCode(String bankCode);
+
+    void save(BankParameterDataEntity bankParameterDataEntity);
+
+}
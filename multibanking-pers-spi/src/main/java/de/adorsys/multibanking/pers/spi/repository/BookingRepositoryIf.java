@@ -5,8 +5,11 @@ import de.adorsys.multibanking.domain.BookingEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface BookingRepositoryIf {
 
@@ -15,6 +18,24 @@ public interface BookingRepositoryIf {
 
     List<BookingEntity> findByUserIdAndAccountIdAndBankApi(String userId, String bankAccountId, BankApi bankApi);
 
+    /**
+     * Keyset pagination ordered by valutaDate and id descending, bookings without valutaDate come last. The page
+     * starts after the booking with the given valutaDate and id, or with the first booking if afterId is null.
+     */
+    List<BookingEntity> findByUserIdAndAccountIdAndBankApiAfter(String userId, String bankAccountId, BankApi bankApi,
+                                                                LocalDate afterValutaDate, String afterId, int limit);
+
+    /**
+     * Reads the bookings of an account through a database cursor and hands them one by one to the consumer, the
+     * account history is never loaded into memory as a whole.
+     */
+    void streamByUserIdAndAccountIdAndBankApi(String userId, String bankAccountId, BankApi bankApi,
+                                              Consumer<BookingEntity> consumer);
+
+    List<BookingEntity> findByUserIdAndAccountIdAndBankApiAndExternalIdIn(String userId, String bankAccountId,
+                                                                          BankApi bankApi,
+                                                                          Collection<String> externalIds);
+
     Optional<BookingEntity> findByUserIdAndId(String userId, String bookingId);
 
     Iterable<BookingEntity> findByUserIdAndIds(String name, List<String> ids);
@@ -0,0 +1,15 @@
+package de.adorsys.multibanking.pers.spi.repository;
+
+import de.adorsys.multibanking.domain.ParameterDataBlobEntity;
+
+import java.util.Optional;
+
+public interface ParameterDataBlobRepositoryIf {
+
+    Optional<ParameterDataBlobEntity> findById(String id);
+
+    boolean exists(String id);
+
+    void save(ParameterDataBlobEntity parameterDataBlobEntity);
+
+}
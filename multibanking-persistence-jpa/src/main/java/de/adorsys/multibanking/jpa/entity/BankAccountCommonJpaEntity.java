@@ -23,5 +23,6 @@ public class BankAccountCommonJpaEntity {
     private String iban;
     private BankAccount.SyncStatus syncStatus;
     private LocalDateTime lastSync;
+    private LocalDateTime lastAnalytics;
 
 }
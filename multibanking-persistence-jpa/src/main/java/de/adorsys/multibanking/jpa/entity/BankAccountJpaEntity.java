@@ -5,6 +5,7 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 
 import javax.persistence.*;
+import java.time.LocalDateTime;
 import java.util.EnumMap;
 import java.util.Map;
 
@@ -18,6 +19,8 @@ public class BankAccountJpaEntity extends BankAccountCommonJpaEntity {
     private Long id;
     private String bankAccessId;
     private String userId;
+    private String syncNode;
+    private LocalDateTime syncStartTime;
 
     @ElementCollection
     @CollectionTable(name = "bankaccount_external_id")
@@ -0,0 +1,21 @@
+package de.adorsys.multibanking.jpa.entity;
+
+import lombok.Data;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Lob;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+
+@Data
+@Entity(name = "bank_parameter_data")
+public class BankParameterDataJpaEntity {
+
+    @Id
+    private String id;
+    private String bpdVersion;
+    @Lob
+    private HashMap<String, String> bpd;
+    private LocalDateTime updateTime;
+}
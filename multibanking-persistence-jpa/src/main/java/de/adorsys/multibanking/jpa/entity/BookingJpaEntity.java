@@ -11,6 +11,10 @@ import java.time.LocalDate;
 @Entity(name = "booking")
 @Data
 @EqualsAndHashCode(callSuper = false)
+@Table(indexes = {
+    @Index(name = "booking_index", columnList = "userId,accountId"),
+    @Index(name = "booking_external_id_index", columnList = "accountId,externalId"),
+    @Index(name = "booking_keyset_index", columnList = "userId,accountId,bankApi,valutaDate,id")})
 public class BookingJpaEntity {
 
     @Id
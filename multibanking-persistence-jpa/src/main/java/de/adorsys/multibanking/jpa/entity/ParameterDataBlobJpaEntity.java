@@ -0,0 +1,20 @@
+package de.adorsys.multibanking.jpa.entity;
+
+import lombok.Data;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Lob;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+
+@Data
+@Entity(name = "parameter_data_blob")
+public class ParameterDataBlobJpaEntity {
+
+    @Id
+    private String id;
+    @Lob
+    private HashMap<String, String> data;
+    private LocalDateTime createdDate;
+}
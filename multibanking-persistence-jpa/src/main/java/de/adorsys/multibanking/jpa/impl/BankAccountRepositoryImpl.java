@@ -10,6 +10,7 @@ import org.apache.commons.lang3.math.NumberUtils;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -63,6 +64,18 @@ public class BankAccountRepositoryImpl implements BankAccountRepositoryIf {
         bankAccountRepository.updateSyncStatus(syncStatus, NumberUtils.toLong(accountId));
     }
 
+    @Override
+    public void startSync(String accountId, String syncNode) {
+        bankAccountRepository.startSync(BankAccount.SyncStatus.SYNC, syncNode, LocalDateTime.now(),
+            NumberUtils.toLong(accountId));
+    }
+
+    @Override
+    public long resetStaleSyncStatus(String syncNode, LocalDateTime startedBefore) {
+        return bankAccountRepository.resetSyncStatus(BankAccount.SyncStatus.SYNC, BankAccount.SyncStatus.PENDING,
+            syncNode, startedBefore);
+    }
+
     @Override
     public List<BankAccountEntity> deleteByBankAccess(String accessId) {
         return entityMapper.mapToBankAccountEntities(bankAccountRepository.deleteByBankAccessId(accessId));
@@ -0,0 +1,31 @@
+package de.adorsys.multibanking.jpa.impl;
+
+import de.adorsys.multibanking.domain.BankParameterDataEntity;
+import de.adorsys.multibanking.jpa.mapper.JpaEntityMapper;
+import de.adorsys.multibanking.jpa.repository.BankParameterDataRepositoryJpa;
+import de.adorsys.multibanking.pers.spi.repository.BankParameterDataRepositoryIf;
+import lombok.AllArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+@AllArgsConstructor
+@Profile({"jpa"})
+@Service
+public class BankParameterDataRepositoryImpl implements BankParameterDataRepositoryIf {
+
+    private final BankParameterDataRepositoryJpa bankParameterDataRepository;
+    private final JpaEntityMapper entityMapper;
+
+    @Override
+    public Optional<BankParameterDataEntity> findByBankCode(String bankCode) {
+        return bankParameterDataRepository.findById(bankCode)
+            .map(entityMapper::mapToBankParameterDataEntity);
+    }
+
+    @Override
+    public void save(BankParameterDataEntity bankParameterDataEntity) {
+        bankParameterDataRepository.save(entityMapper.mapToBankParameterDataJpaEntity(bankParameterDataEntity));
+    }
+}
@@ -10,13 +10,20 @@ import de.adorsys.multibanking.pers.spi.repository.BookingRepositoryIf;
 import lombok.AllArgsConstructor;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @AllArgsConstructor
 @Profile({"jpa"})
@@ -27,6 +34,7 @@ public class BookingRepositoryImpl implements BookingRepositoryIf {
     private final BookingPageableRepositoryJpa bookingPageableRepositoryMongodb;
 
     private final JpaEntityMapper entityMapper;
+    private final EntityManager entityManager;
 
     @Override
     public Page<BookingEntity> findPageableByUserIdAndAccountIdAndBankApi(Pageable pageable, String userId,
@@ -45,6 +53,46 @@ public class BookingRepositoryImpl implements BookingRepositoryIf {
             bankAccountId, bankApi, Sort.by(Sort.Direction.DESC, "valutaDate")));
     }
 
+    @Override
+    public List<BookingEntity> findByUserIdAndAccountIdAndBankApiAfter(String userId, String bankAccountId,
+                                                                       BankApi bankApi, LocalDate afterValutaDate,
+                                                                       String afterId, int limit) {
+        PageRequest pageRequest = PageRequest.of(0, limit);
+        List<BookingJpaEntity> bookings;
+        if (afterId == null) {
+            bookings = bookingPageableRepositoryMongodb.findKeysetPage(userId, bankAccountId, bankApi, pageRequest);
+        } else if (afterValutaDate == null) {
+            bookings = bookingPageableRepositoryMongodb.findKeysetPageAfterUndated(userId, bankAccountId, bankApi,
+                afterId, pageRequest);
+        } else {
+            bookings = bookingPageableRepositoryMongodb.findKeysetPageAfter(userId, bankAccountId, bankApi,
+                afterValutaDate, afterId, pageRequest);
+        }
+        return entityMapper.mapToBookingEntities(bookings);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamByUserIdAndAccountIdAndBankApi(String userId, String bankAccountId, BankApi bankApi,
+                                                     Consumer<BookingEntity> consumer) {
+        try (Stream<BookingJpaEntity> bookings = bookingRepository.streamByUserIdAndAccountIdAndBankApi(userId,
+            bankAccountId, bankApi, Sort.by(Sort.Direction.DESC, "valutaDate"))) {
+            bookings.forEach(bookingJpaEntity -> {
+                consumer.accept(entityMapper.mapToBookingEntity(bookingJpaEntity));
+                //keep the persistence context from growing with the account history
+                entityManager.detach(bookingJpaEntity);
+            });
+        }
+    }
+
+    @Override
+    public List<BookingEntity> findByUserIdAndAccountIdAndBankApiAndExternalIdIn(String userId, String bankAccountId,
+                                                                                 BankApi bankApi,
+                                                                                 Collection<String> externalIds) {
+        return entityMapper.mapToBookingEntities(bookingRepository.findByUserIdAndAccountIdAndBankApiAndExternalIdIn(
+            userId, bankAccountId, bankApi, externalIds));
+    }
+
     @Override
     public Optional<BookingEntity> findByUserIdAndId(String userId, String bookingId) {
         return bookingRepository.findByUserIdAndId(userId, bookingId)
@@ -0,0 +1,36 @@
+package de.adorsys.multibanking.jpa.impl;
+
+import de.adorsys.multibanking.domain.ParameterDataBlobEntity;
+import de.adorsys.multibanking.jpa.mapper.JpaEntityMapper;
+import de.adorsys.multibanking.jpa.repository.ParameterDataBlobRepositoryJpa;
+import de.adorsys.multibanking.pers.spi.repository.ParameterDataBlobRepositoryIf;
+import lombok.AllArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+@AllArgsConstructor
+@Profile({"jpa"})
+@Service
+public class ParameterDataBlobRepositoryImpl implements ParameterDataBlobRepositoryIf {
+
+    private final ParameterDataBlobRepositoryJpa parameterDataBlobRepository;
+    private final JpaEntityMapper entityMapper;
+
+    @Override
+    public Optional<ParameterDataBlobEntity> findById(String id) {
+        return parameterDataBlobRepository.findById(id)
+            .map(entityMapper::mapToParameterDataBlobEntity);
+    }
+
+    @Override
+    public boolean exists(String id) {
+        return parameterDataBlobRepository.existsById(id);
+    }
+
+    @Override
+    public void save(ParameterDataBlobEntity parameterDataBlobEntity) {
+        parameterDataBlobRepository.save(entityMapper.mapToParameterDataBlobJpaEntity(parameterDataBlobEntity));
+    }
+}
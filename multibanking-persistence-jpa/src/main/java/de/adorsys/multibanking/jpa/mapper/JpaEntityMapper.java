@@ -107,4 +107,12 @@ public interface JpaEntityMapper {
 
     ConsentJpaEntity toConsentJpaEntity(ConsentEntity consentEntity);
 
+    BankParameterDataEntity mapToBankParameterDataEntity(BankParameterDataJpaEntity bankParameterDataJpaEntity);
+
+    BankParameterDataJpaEntity mapToBankParameterDataJpaEntity(BankParameterDataEntity bankParameterDataEntity);
+
+    ParameterDataBlobEntity mapToParameterDataBlobEntity(ParameterDataBlobJpaEntity parameterDataBlobJpaEntity);
+
+    ParameterDataBlobJpaEntity mapToParameterDataBlobJpaEntity(ParameterDataBlobEntity parameterDataBlobEntity);
+
 }
@@ -7,7 +7,9 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,4 +32,17 @@ public interface BankAccountRepositoryJpa extends JpaRepository<BankAccountJpaEn
     @Query("update bank_account account set account.syncStatus = ?1 where account.id = ?2")
     int updateSyncStatus(BankAccount.SyncStatus status, Long id);
 
+    @Transactional
+    @Modifying
+    @Query("update bank_account account set account.syncStatus = ?1, account.syncNode = ?2, " +
+        "account.syncStartTime = ?3 where account.id = ?4")
+    int startSync(BankAccount.SyncStatus status, String syncNode, LocalDateTime syncStartTime, Long id);
+
+    @Transactional
+    @Modifying
+    @Query("update bank_account account set account.syncStatus = ?2 where account.syncStatus = ?1 and " +
+        "(account.syncNode = ?3 or account.syncStartTime is null or account.syncStartTime < ?4)")
+    int resetSyncStatus(BankAccount.SyncStatus status, BankAccount.SyncStatus newStatus, String syncNode,
+                        LocalDateTime startedBefore);
+
 }
@@ -6,13 +6,40 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.List;
+
 @Repository
 @Profile({"jpa"})
 public interface BookingPageableRepositoryJpa extends JpaRepository<BookingJpaEntity, String> {
 
+    String KEYSET_SELECT = "select b from booking b where b.userId = :userId and b.accountId = :accountId " +
+        "and b.bankApi = :bankApi ";
+    String KEYSET_ORDER = " order by b.valutaDate desc nulls last, b.id desc";
+
     Page<BookingJpaEntity> findByUserIdAndAccountIdAndBankApi(Pageable pageable, String userId, String bankAccountId,
                                                               BankApi bankApi);
 
+    @Query(KEYSET_SELECT + KEYSET_ORDER)
+    List<BookingJpaEntity> findKeysetPage(@Param("userId") String userId, @Param("accountId") String bankAccountId,
+                                          @Param("bankApi") BankApi bankApi, Pageable pageable);
+
+    @Query(KEYSET_SELECT + "and (b.valutaDate < :valutaDate or (b.valutaDate = :valutaDate and b.id < :id) " +
+        "or b.valutaDate is null)" + KEYSET_ORDER)
+    List<BookingJpaEntity> findKeysetPageAfter(@Param("userId") String userId,
+                                               @Param("accountId") String bankAccountId,
+                                               @Param("bankApi") BankApi bankApi,
+                                               @Param("valutaDate") LocalDate afterValutaDate,
+                                               @Param("id") String afterId, Pageable pageable);
+
+    @Query(KEYSET_SELECT + "and b.valutaDate is null and b.id < :id" + KEYSET_ORDER)
+    List<BookingJpaEntity> findKeysetPageAfterUndated(@Param("userId") String userId,
+                                                      @Param("accountId") String bankAccountId,
+                                                      @Param("bankApi") BankApi bankApi,
+                                                      @Param("id") String afterId, Pageable pageable);
+
 }
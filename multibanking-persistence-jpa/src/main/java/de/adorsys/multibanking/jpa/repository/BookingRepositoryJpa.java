@@ -5,10 +5,16 @@ import de.adorsys.multibanking.jpa.entity.BookingJpaEntity;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 @Repository
 @Profile({"jpa"})
@@ -17,6 +23,13 @@ public interface BookingRepositoryJpa extends JpaRepository<BookingJpaEntity, St
     List<BookingJpaEntity> findByUserIdAndAccountIdAndBankApi(String userId, String bankAccountId, BankApi bankApi,
                                                               Sort sort);
 
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    Stream<BookingJpaEntity> streamByUserIdAndAccountIdAndBankApi(String userId, String bankAccountId, BankApi bankApi,
+                                                                  Sort sort);
+
+    List<BookingJpaEntity> findByUserIdAndAccountIdAndBankApiAndExternalIdIn(String userId, String bankAccountId,
+                                                                             BankApi bankApi, Collection<String> externalIds);
+
     Optional<BookingJpaEntity> findByUserIdAndId(String userId, String bookingId);
 
     List<BookingJpaEntity> findByUserIdAndIdIn(String userId, List<String> bookingIds);
@@ -0,0 +1,11 @@
+package de.adorsys.multibanking.jpa.repository;
+
+import de.adorsys.multibanking.jpa.entity.ParameterDataBlobJpaEntity;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@Profile({"jpa"})
+public interface ParameterDataBlobRepositoryJpa extends JpaRepository<ParameterDataBlobJpaEntity, String> {
+}
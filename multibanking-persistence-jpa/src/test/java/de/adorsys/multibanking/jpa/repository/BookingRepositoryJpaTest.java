@@ -0,0 +1,92 @@
+package de.adorsys.multibanking.jpa.repository;
+
+import de.adorsys.multibanking.domain.BankApi;
+import de.adorsys.multibanking.domain.BookingEntity;
+import de.adorsys.multibanking.jpa.conf.JpaConfig;
+import de.adorsys.multibanking.jpa.conf.MapperConfig;
+import de.adorsys.multibanking.jpa.impl.BookingRepositoryImpl;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("jpa")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = {JpaConfig.class, MapperConfig.class, BookingRepositoryImpl.class})
+@RunWith(SpringRunner.class)
+public class BookingRepositoryJpaTest {
+
+    @Autowired
+    private BookingRepositoryImpl repository;
+
+    @Test
+    public void testStreamBookings() {
+        String userId = UUID.randomUUID().toString();
+        String accountId = UUID.randomUUID().toString();
+
+        List<BookingEntity> bookingEntities = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            bookingEntities.add(createBooking(userId, accountId, LocalDate.of(2020, 1, i)));
+        }
+        repository.save(bookingEntities);
+
+        List<BookingEntity> streamedBookings = new ArrayList<>();
+        repository.streamByUserIdAndAccountIdAndBankApi(userId, accountId, BankApi.HBCI, streamedBookings::add);
+
+        assertThat(streamedBookings).hasSize(3);
+        assertThat(streamedBookings).extracting(BookingEntity::getValutaDate)
+            .containsExactly(LocalDate.of(2020, 1, 3), LocalDate.of(2020, 1, 2), LocalDate.of(2020, 1, 1));
+    }
+
+    @Test
+    public void testKeysetPagination() {
+        String userId = UUID.randomUUID().toString();
+        String accountId = UUID.randomUUID().toString();
+
+        List<BookingEntity> bookingEntities = new ArrayList<>();
+        for (int i = 1; i <= 4; i++) {
+            bookingEntities.add(createBooking(userId, accountId, LocalDate.of(2020, 1, i % 2 + 1)));
+        }
+        bookingEntities.add(createBooking(userId, accountId, null));
+        bookingEntities.add(createBooking(userId, accountId, null));
+        repository.save(bookingEntities);
+
+        List<BookingEntity> pagedBookings = new ArrayList<>();
+        List<BookingEntity> page = repository.findByUserIdAndAccountIdAndBankApiAfter(userId, accountId,
+            BankApi.HBCI, null, null, 2);
+        while (!page.isEmpty()) {
+            assertThat(page.size()).isLessThanOrEqualTo(2);
+            pagedBookings.addAll(page);
+            BookingEntity last = page.get(page.size() - 1);
+            page = repository.findByUserIdAndAccountIdAndBankApiAfter(userId, accountId, BankApi.HBCI,
+                last.getValutaDate(), last.getId(), 2);
+        }
+
+        assertThat(pagedBookings).extracting(BookingEntity::getId).doesNotHaveDuplicates().hasSize(6);
+        assertThat(pagedBookings).extracting(BookingEntity::getValutaDate)
+            .containsExactly(LocalDate.of(2020, 1, 2), LocalDate.of(2020, 1, 2), LocalDate.of(2020, 1, 1),
+                LocalDate.of(2020, 1, 1), null, null);
+    }
+
+    private BookingEntity createBooking(String userId, String accountId, LocalDate valutaDate) {
+        BookingEntity entity = new BookingEntity();
+        entity.setUserId(userId);
+        entity.setAccountId(accountId);
+        entity.setBankApi(BankApi.HBCI);
+        entity.setExternalId(UUID.randomUUID().toString());
+        entity.setValutaDate(valutaDate);
+        return entity;
+    }
+}
@@ -10,10 +10,12 @@ import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
+import java.time.LocalDateTime;
+
 @Data
 @EqualsAndHashCode(callSuper = false)
 @Document
-@Encrypted(exclude = {"_id", "bankAccessId", "userId", "syncStatus", "rulesVersion"})
+@Encrypted(exclude = {"_id", "bankAccessId", "userId", "syncStatus", "syncNode", "syncStartTime", "rulesVersion"})
 @JsonIgnoreProperties(value = {"externalIdMap"}, allowSetters = true)
 @CompoundIndexes({
     @CompoundIndex(name = "account_index", def = "{'userId': 1, 'bankAccessId': 1}")
@@ -24,5 +26,7 @@ public class BankAccountMongoEntity extends BankAccount {
     private String id;
     private String bankAccessId;
     private String userId;
+    private String syncNode;
+    private LocalDateTime syncStartTime;
 
 }
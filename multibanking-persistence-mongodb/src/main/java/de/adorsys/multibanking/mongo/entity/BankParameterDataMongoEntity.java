@@ -0,0 +1,19 @@
+package de.adorsys.multibanking.mongo.entity;
+
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@Document
+public class BankParameterDataMongoEntity {
+
+    @Id
+    private String id;
+    private String bpdVersion;
+    private Map<String, String> bpd;
+    private LocalDateTime updateTime;
+}
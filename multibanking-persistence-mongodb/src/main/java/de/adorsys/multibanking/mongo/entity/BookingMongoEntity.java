@@ -14,7 +14,9 @@ import org.springframework.data.mongodb.core.mapping.Document;
 @Document
 @CompoundIndexes({
         @CompoundIndex(name = "booking_index", def = "{'userId': 1, 'accountId': 1}"),
-        @CompoundIndex(name = "booking_unique_index", def = "{'externalId': 1, 'accountId': 1}", unique = true)})
+        @CompoundIndex(name = "booking_unique_index", def = "{'externalId': 1, 'accountId': 1}", unique = true),
+        @CompoundIndex(name = "booking_keyset_index",
+                def = "{'userId': 1, 'accountId': 1, 'bankApi': 1, 'valutaDate': -1, '_id': -1}")})
 @Encrypted(exclude = {"_id", "accountId", "externalId", "userId", "valutaDate", "bookingDate", "bankApi"})
 public class BookingMongoEntity extends Booking {
 
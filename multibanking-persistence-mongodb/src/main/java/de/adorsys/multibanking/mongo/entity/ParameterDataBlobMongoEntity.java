@@ -0,0 +1,20 @@
+package de.adorsys.multibanking.mongo.entity;
+
+import de.adorsys.multibanking.mongo.encrypt.Encrypted;
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@Document
+@Encrypted(exclude = {"_id", "createdDate"})
+public class ParameterDataBlobMongoEntity {
+
+    @Id
+    private String id;
+    private Map<String, String> data;
+    private LocalDateTime createdDate;
+}
@@ -14,6 +14,7 @@ import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -78,6 +79,26 @@ public class BankAccountRepositoryImpl implements BankAccountRepositoryIf {
         mongoTemplate.updateFirst(where, update, BankAccountMongoEntity.class);
     }
 
+    @Override
+    public void startSync(String accountId, String syncNode) {
+        Query where = Query.query(Criteria.where("id").is(accountId));
+        Update update = new Update()
+            .set("syncStatus", BankAccount.SyncStatus.SYNC)
+            .set("syncNode", syncNode)
+            .set("syncStartTime", LocalDateTime.now());
+        mongoTemplate.updateFirst(where, update, BankAccountMongoEntity.class);
+    }
+
+    @Override
+    public long resetStaleSyncStatus(String syncNode, LocalDateTime startedBefore) {
+        Query where = Query.query(Criteria.where("syncStatus").is(BankAccount.SyncStatus.SYNC)
+            .orOperator(Criteria.where("syncNode").is(syncNode),
+                Criteria.where("syncStartTime").is(null),
+                Criteria.where("syncStartTime").lt(startedBefore)));
+        Update update = new Update().set("syncStatus", BankAccount.SyncStatus.PENDING);
+        return mongoTemplate.updateMulti(where, update, BankAccountMongoEntity.class).getModifiedCount();
+    }
+
     @Override
     public List<BankAccountEntity> deleteByBankAccess(String accessId) {
         return entityMapper.mapToBankAccountEntities(bankAccountRepository.deleteByBankAccessId(accessId));
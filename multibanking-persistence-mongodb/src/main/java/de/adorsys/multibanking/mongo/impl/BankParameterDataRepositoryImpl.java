@@ -0,0 +1,31 @@
+package de.adorsys.multibanking.mongo.impl;
+
+import de.adorsys.multibanking.domain.BankParameterDataEntity;
+import de.adorsys.multibanking.mongo.mapper.MongoEntityMapper;
+import de.adorsys.multibanking.mongo.repository.BankParameterDataRepositoryMongodb;
+import de.adorsys.multibanking.pers.spi.repository.BankParameterDataRepositoryIf;
+import lombok.AllArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+@AllArgsConstructor
+@Profile({"mongo", "fongo"})
+@Service
+public class BankParameterDataRepositoryImpl implements BankParameterDataRepositoryIf {
+
+    private final BankParameterDataRepositoryMongodb bankParameterDataRepository;
+    private final MongoEntityMapper entityMapper;
+
+    @Override
+    public Optional<BankParameterDataEntity> findByBankCode(String bankCode) {
+        return bankParameterDataRepository.findById(bankCode)
+            .map(entityMapper::mapToBankParameterDataEntity);
+    }
+
+    @Override
+    public void save(BankParameterDataEntity bankParameterDataEntity) {
+        bankParameterDataRepository.save(entityMapper.mapToBankParameterDataMongoEntity(bankParameterDataEntity));
+    }
+}
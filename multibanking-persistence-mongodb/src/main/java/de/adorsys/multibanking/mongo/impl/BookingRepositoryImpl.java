@@ -13,12 +13,19 @@ import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @AllArgsConstructor
 @Profile({"mongo", "fongo"})
@@ -27,6 +34,7 @@ public class BookingRepositoryImpl implements BookingRepositoryIf {
 
     private final BookingRepositoryMongodb bookingRepository;
     private final BookingPageableRepositoryMongodb bookingPageableRepositoryMongodb;
+    private final MongoTemplate mongoTemplate;
     private final MongoEntityMapper entityMapper;
 
     @Override
@@ -46,6 +54,48 @@ public class BookingRepositoryImpl implements BookingRepositoryIf {
             bankAccountId, bankApi, Sort.by(Sort.Direction.DESC, "valutaDate")));
     }
 
+    @Override
+    public List<BookingEntity> findByUserIdAndAccountIdAndBankApiAfter(String userId, String bankAccountId,
+                                                                       BankApi bankApi, LocalDate afterValutaDate,
+                                                                       String afterId, int limit) {
+        Criteria criteria = Criteria.where("userId").is(userId)
+            .and("accountId").is(bankAccountId)
+            .and("bankApi").is(bankApi);
+
+        if (afterId != null && afterValutaDate == null) {
+            criteria.and("valutaDate").is(null).and("id").lt(afterId);
+        } else if (afterId != null) {
+            criteria.orOperator(
+                Criteria.where("valutaDate").lt(afterValutaDate),
+                Criteria.where("valutaDate").is(afterValutaDate).and("id").lt(afterId),
+                Criteria.where("valutaDate").is(null));
+        }
+
+        Query query = Query.query(criteria)
+            .with(Sort.by(Sort.Direction.DESC, "valutaDate", "id"))
+            .limit(limit);
+
+        return entityMapper.mapToBookingEntities(mongoTemplate.find(query, BookingMongoEntity.class));
+    }
+
+    @Override
+    public void streamByUserIdAndAccountIdAndBankApi(String userId, String bankAccountId, BankApi bankApi,
+                                                     Consumer<BookingEntity> consumer) {
+        try (Stream<BookingMongoEntity> bookings = bookingRepository.streamByUserIdAndAccountIdAndBankApi(userId,
+            bankAccountId, bankApi, Sort.by(Sort.Direction.DESC, "valutaDate"))) {
+            bookings.map(entityMapper::mapToBookingEntity)
+                .forEach(consumer);
+        }
+    }
+
+    @Override
+    public List<BookingEntity> findByUserIdAndAccountIdAndBankApiAndExternalIdIn(String userId, String bankAccountId,
+                                                                                 BankApi bankApi,
+                                                                                 Collection<String> externalIds) {
+        return entityMapper.mapToBookingEntities(bookingRepository.findByUserIdAndAccountIdAndBankApiAndExternalIdIn(
+            userId, bankAccountId, bankApi, externalIds));
+    }
+
     @Override
     public Optional<BookingEntity> findByUserIdAndId(String userId, String bookingId) {
         return bookingRepository.findByUserIdAndId(userId, bookingId)
@@ -82,4 +82,12 @@ public interface MongoEntityMapper {
     ConsentEntity toConsentEntity(ConsentMongoEntity consentMongoEntity);
 
     ConsentMongoEntity toConsentMongoEntity(ConsentEntity consentEntity);
+
+    BankParameterDataEntity mapToBankParameterDataEntity(BankParameterDataMongoEntity bankParameterDataMongoEntity);
+
+    BankParameterDataMongoEntity mapToBankParameterDataMongoEntity(BankParameterDataEntity bankParameterDataEntity);
+
+    ParameterDataBlobEntity mapToParameterDataBlobEntity(ParameterDataBlobMongoEntity parameterDataBlobMongoEntity);
+
+    ParameterDataBlobMongoEntity mapToParameterDataBlobMongoEntity(ParameterDataBlobEntity parameterDataBlobEntity);
 }
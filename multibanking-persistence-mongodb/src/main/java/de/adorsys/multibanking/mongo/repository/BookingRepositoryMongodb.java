@@ -7,8 +7,10 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 @Profile({"mongo", "fongo"})
@@ -17,6 +19,12 @@ public interface BookingRepositoryMongodb extends MongoRepository<BookingMongoEn
     List<BookingMongoEntity> findByUserIdAndAccountIdAndBankApi(String userId, String bankAccountId, BankApi bankApi,
                                                                 Sort sort);
 
+    Stream<BookingMongoEntity> streamByUserIdAndAccountIdAndBankApi(String userId, String bankAccountId, BankApi bankApi,
+                                                                    Sort sort);
+
+    List<BookingMongoEntity> findByUserIdAndAccountIdAndBankApiAndExternalIdIn(String userId, String bankAccountId,
+                                                                               BankApi bankApi, Collection<String> externalIds);
+
     Optional<BookingMongoEntity> findByUserIdAndId(String userId, String bookingId);
 
     List<BookingMongoEntity> findByUserIdAndIdIn(String userId, List<String> bookingIds);
@@ -0,0 +1,11 @@
+package de.adorsys.multibanking.mongo.repository;
+
+import de.adorsys.multibanking.mongo.entity.ParameterDataBlobMongoEntity;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@Profile({"mongo", "fongo"})
+public interface ParameterDataBlobRepositoryMongodb extends MongoRepository<ParameterDataBlobMongoEntity, String> {
+}
@@ -5,7 +5,14 @@ import de.adorsys.multibanking.domain.BankApi;
 import de.adorsys.multibanking.figo.FigoBanking;
 import de.adorsys.multibanking.finapi.FinapiBanking;
 import de.adorsys.multibanking.hbci.HbciBanking;
+import de.adorsys.multibanking.hbci.HbciBulkhead;
+import de.adorsys.multibanking.hbci.HbciCacheHandler;
+import de.adorsys.multibanking.hbci.HbciDialogSessionManager;
 import de.adorsys.multibanking.ing.IngAdapter;
+import de.adorsys.multibanking.metrics.MetricsCollector;
+import de.adorsys.multibanking.service.BankParameterDataService;
+import de.adorsys.multibanking.service.ParameterDataBlobService;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.kapott.hbci.manager.HBCIProduct;
 import org.springframework.beans.factory.annotation.Value;
@@ -14,8 +21,10 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.util.StringUtils;
 
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 
 @Slf4j
+@RequiredArgsConstructor
 @Configuration
 public class AdapterConfig {
 
@@ -41,10 +50,25 @@ public class AdapterConfig {
     private long fintsSysIdCacheExpirationMs;
     @Value("${fints.sysUpdCacheExpirationMs:0}")
     private long fintsUpdCacheExpirationMs;
+    @Value("${fints.bpdCacheExpirationMs:86400000}")
+    private long fintsBpdCacheExpirationMs;
+    @Value("${fints.dialogIdleTimeMs:30000}")
+    private long fintsDialogIdleTimeMs;
+    @Value("${fints.bulkhead.maxConcurrentJobsPerHost:20}")
+    private int fintsMaxConcurrentJobsPerHost;
+    @Value("${fints.bulkhead.maxQueuedJobsPerHost:100}")
+    private int fintsMaxQueuedJobsPerHost;
+    @Value("${fints.bulkhead.maxWaitTimeMs:30000}")
+    private long fintsMaxWaitTimeMs;
+
+    private final BankParameterDataService bankParameterDataService;
+    private final ParameterDataBlobService parameterDataBlobService;
+    private final MetricsCollector metricsCollector;
 
     private IngAdapter ingAdapter;
     private BankingGatewayAdapter bankingGatewayAdapter;
     private HbciBanking hbci4JavaBanking;
+    private HbciDialogSessionManager hbciDialogSessionManager;
     private FigoBanking figoBanking = new FigoBanking(BankApi.FIGO);
     private FigoBanking figoBankingAlternative = new FigoBanking(BankApi.FIGO_ALTERNATIVE);
     private FinapiBanking finapiBanking = new FinapiBanking();
@@ -56,12 +80,26 @@ public class AdapterConfig {
         bankingGatewayAdapter = new BankingGatewayAdapter(bankingGatewayBaseUrl,
             bankingAdapterBaseUrl);
 
+        HbciCacheHandler hbciCacheHandler = new HbciCacheHandler(bankParameterDataService, fintsBpdCacheExpirationMs,
+            parameterDataBlobService);
+        hbciDialogSessionManager = new HbciDialogSessionManager(fintsDialogIdleTimeMs);
+        HbciBulkhead hbciBulkhead = new HbciBulkhead(fintsMaxConcurrentJobsPerHost, fintsMaxQueuedJobsPerHost,
+            fintsMaxWaitTimeMs,
+            (bankHost, queueTimeMs) -> metricsCollector.timeBankHost("hbciQueueTime", bankHost, queueTimeMs));
+
+        HBCIProduct hbciProduct = null;
         if (StringUtils.isEmpty(fintsProduct)) {
             log.warn("missing FinTS product configuration");
-            hbci4JavaBanking = new HbciBanking(null, fintsSysIdCacheExpirationMs, fintsUpdCacheExpirationMs);
         } else {
-            hbci4JavaBanking = new HbciBanking(new HBCIProduct(fintsProduct, fintsProductVersion), fintsSysIdCacheExpirationMs, fintsUpdCacheExpirationMs);
+            hbciProduct = new HBCIProduct(fintsProduct, fintsProductVersion);
         }
+        hbci4JavaBanking = new HbciBanking(hbciProduct, null, fintsSysIdCacheExpirationMs, fintsUpdCacheExpirationMs,
+            hbciCacheHandler, hbciDialogSessionManager, hbciBulkhead);
+    }
+
+    @PreDestroy
+    public void preDestroy() {
+        hbciDialogSessionManager.close();
     }
 
     @Bean
@@ -31,6 +31,10 @@ public class AsyncConfig implements AsyncConfigurer {
     private int maxPoolSize;
     @Value("${queue.pool.size:10000}")
     private int queueCapacity;
+    @Value("${sync.pool.size:20}")
+    private int syncPoolSize;
+    @Value("${sync.queue.size:1000}")
+    private int syncQueueCapacity;
 
     @Override
     @Bean(name = "taskExecutor")
@@ -44,6 +48,17 @@ public class AsyncConfig implements AsyncConfigurer {
         return new ExceptionHandlingAsyncTaskExecutor(executor);
     }
 
+    @Bean(name = "syncJobExecutor")
+    public ThreadPoolTaskExecutor getSyncJobExecutor() {
+        log.debug("Creating Sync Job Executor");
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(syncPoolSize);
+        executor.setMaxPoolSize(syncPoolSize);
+        executor.setQueueCapacity(syncQueueCapacity);
+        executor.setThreadNamePrefix("multibanking-Sync-");
+        return executor;
+    }
+
     @Override
     public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
         return new SimpleAsyncUncaughtExceptionHandler();
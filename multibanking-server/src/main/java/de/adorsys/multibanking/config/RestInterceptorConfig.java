@@ -1,6 +1,7 @@
 package de.adorsys.multibanking.config;
 
 import de.adorsys.multibanking.logging.LoggingRestInterceptor;
+import de.adorsys.multibanking.service.analytics.AnalyticsConfigChangeInterceptor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
@@ -11,10 +12,13 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 public class RestInterceptorConfig implements WebMvcConfigurer {
 
     private final LoggingRestInterceptor loggingRestInterceptor;
+    private final AnalyticsConfigChangeInterceptor analyticsConfigChangeInterceptor;
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(loggingRestInterceptor);
+        registry.addInterceptor(analyticsConfigChangeInterceptor)
+            .addPathPatterns(AnalyticsConfigChangeInterceptor.CONFIG_PATH_PATTERN);
     }
 
 }
@@ -0,0 +1,17 @@
+package de.adorsys.multibanking.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(
+    value = HttpStatus.BAD_REQUEST,
+    reason = "INVALID_BOOKING_CURSOR"
+)
+public class InvalidBookingCursorException extends ParametrizedMessageException {
+
+    public InvalidBookingCursorException(String cursor) {
+        super("invalid booking cursor");
+        this.addParam("cursor", cursor);
+    }
+
+}
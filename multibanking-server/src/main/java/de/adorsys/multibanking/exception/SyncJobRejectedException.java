@@ -0,0 +1,18 @@
+package de.adorsys.multibanking.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.text.MessageFormat;
+
+@ResponseStatus(
+    value = HttpStatus.SERVICE_UNAVAILABLE,
+    reason = "SYNC_JOB_REJECTED"
+)
+public class SyncJobRejectedException extends ParametrizedMessageException {
+
+    public SyncJobRejectedException(String account) {
+        super(MessageFormat.format("Account [{0}] sync rejected, too many pending sync jobs.", new Object[]{account}));
+        this.addParam("account", account);
+    }
+}
@@ -50,6 +50,13 @@ public class MetricsCollector {
             .record(duration, TimeUnit.MILLISECONDS);
     }
 
+    public void timeBankHost(String tag, String bankHost, long duration) {
+        Timer.builder(tag)
+            .tag("bank_host", bankHost)
+            .register(meterRegistry)
+            .record(duration, TimeUnit.MILLISECONDS);
+    }
+
     private Tag getExceptionTag(Throwable exception) {
         if (exception instanceof MultibankingException) {
             return Tag.of("exception", ((MultibankingException) exception).getMultibankingError().toString());
@@ -0,0 +1,48 @@
+package de.adorsys.multibanking.service;
+
+import de.adorsys.multibanking.domain.BankParameterDataEntity;
+import de.adorsys.multibanking.hbci.HbciBpdStore;
+import de.adorsys.multibanking.pers.spi.repository.BankParameterDataRepositoryIf;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Persists the FinTS bank parameter data so that HBCI dialogs on every node can skip the anonymous bpd dialog.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class BankParameterDataService implements HbciBpdStore {
+
+    private final BankParameterDataRepositoryIf bankParameterDataRepository;
+
+    @Override
+    public Optional<Map<String, String>> load(String bankCode) {
+        return bankParameterDataRepository.findByBankCode(bankCode)
+            .map(BankParameterDataEntity::getBpd);
+    }
+
+    @Override
+    public void store(String bankCode, String bpdVersion, Map<String, String> bpd, LocalDateTime updateTime) {
+        BankParameterDataEntity bankParameterData = bankParameterDataRepository.findByBankCode(bankCode)
+            .orElseGet(BankParameterDataEntity::new);
+
+        //never replace a newer bpd from another node
+        if (bankParameterData.getUpdateTime() != null && bankParameterData.getUpdateTime().isAfter(updateTime)) {
+            log.debug("skip bpd version [{}] for bank [{}], stored bpd is newer", bpdVersion, bankCode);
+            return;
+        }
+
+        log.debug("store bpd version [{}] for bank [{}]", bpdVersion, bankCode);
+        bankParameterData.setId(bankCode);
+        bankParameterData.setBpdVersion(bpdVersion);
+        bankParameterData.setBpd(bpd);
+        bankParameterData.setUpdateTime(updateTime);
+        bankParameterDataRepository.save(bankParameterData);
+    }
+}
@@ -0,0 +1,45 @@
+package de.adorsys.multibanking.service;
+
+import de.adorsys.multibanking.domain.BookingEntity;
+import de.adorsys.multibanking.exception.InvalidBookingCursorException;
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position of a booking in the keyset order (valutaDate and id descending), passed to clients as an opaque token.
+ */
+@Value
+public class BookingCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDate valutaDate;
+    private final String id;
+
+    public static BookingCursor of(BookingEntity bookingEntity) {
+        return new BookingCursor(bookingEntity.getValutaDate(), bookingEntity.getId());
+    }
+
+    public static BookingCursor parse(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separatorIndex = decoded.indexOf(SEPARATOR);
+            if (separatorIndex < 0 || separatorIndex == decoded.length() - 1) {
+                throw new InvalidBookingCursorException(token);
+            }
+            LocalDate valutaDate = separatorIndex == 0 ? null : LocalDate.parse(decoded.substring(0, separatorIndex));
+            return new BookingCursor(valutaDate, decoded.substring(separatorIndex + 1));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidBookingCursorException(token);
+        }
+    }
+
+    public String toToken() {
+        String value = (valutaDate != null ? valutaDate.toString() : "") + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
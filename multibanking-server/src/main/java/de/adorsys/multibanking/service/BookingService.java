@@ -4,14 +4,15 @@ import de.adorsys.multibanking.domain.*;
 import de.adorsys.multibanking.domain.exception.MultibankingException;
 import de.adorsys.multibanking.domain.request.TransactionRequest;
 import de.adorsys.multibanking.domain.request.TransactionRequestFactory;
+import de.adorsys.multibanking.domain.response.TransactionsBatchResponse;
 import de.adorsys.multibanking.domain.response.TransactionsResponse;
 import de.adorsys.multibanking.domain.spi.OnlineBankingService;
 import de.adorsys.multibanking.domain.transaction.LoadAccounts;
 import de.adorsys.multibanking.domain.transaction.LoadTransactions;
 import de.adorsys.multibanking.metrics.MetricsCollector;
 import de.adorsys.multibanking.pers.spi.repository.*;
+import de.adorsys.multibanking.service.analytics.AnalyticsConfigStatusCache;
 import de.adorsys.multibanking.service.analytics.AnalyticsService;
-import de.adorsys.multibanking.service.analytics.SmartAnalyticsIf;
 import de.adorsys.multibanking.service.analytics.SmartAnalyticsMapper;
 import de.adorsys.smartanalytics.api.AnalyticsResult;
 import de.adorsys.smartanalytics.api.config.ConfigStatus;
@@ -24,6 +25,8 @@ import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
@@ -43,7 +46,7 @@ public class BookingService extends AccountInformationService {
     private final BookingsIndexRepositoryIf bookingsIndexRepository;
     private final StandingOrderRepositoryIf standingOrderRepository;
     private final AnalyticsRepositoryIf analyticsRepository;
-    private final SmartAnalyticsIf smartAnalyticsService;
+    private final AnalyticsConfigStatusCache analyticsConfigStatusCache;
     private final AnalyticsService analyticsService;
     private final AnonymizationService anonymizationService;
     private final ConsentService consentService;
@@ -52,45 +55,76 @@ public class BookingService extends AccountInformationService {
     private final OnlineBankingServiceProducer bankingServiceProducer;
     private final SmartAnalyticsMapper smartAnalyticsMapper;
     private final MetricsCollector metricsCollector;
+    private final SyncNode syncNode;
+
+    /**
+     * Writes the bookings of an account as csv rows to the output stream while they are read from the database
+     * cursor, heap usage does not depend on the size of the account history.
+     */
+    public void writeBookingsCsv(String userId, String accountId, BankApi bankApi, OutputStream outputStream)
+        throws IOException {
+        //same charset the former string response body was encoded with
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.ISO_8859_1));
+        try {
+            bookingRepository.streamByUserIdAndAccountIdAndBankApi(userId, accountId, bankApi, bookingEntity -> {
+                try {
+                    writeCsvRow(writer, bookingEntity);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
 
-    public String getBookingsCsv(String userId, String accessId, String accountId) {
-        List<BookingEntity> bookings = getBookings(userId, accessId, accountId);
-        StringBuilder builder = new StringBuilder();
-
-        bookings.forEach(bookingEntity -> {
-            builder.append(bookingEntity.getBookingDate() != null ? bookingEntity.getBookingDate().toString() : "");
-            builder.append(";");
-            builder.append(bookingEntity.getOtherAccount() != null ? bookingEntity.getOtherAccount().getOwner() : "");
-            builder.append(";");
-            builder.append(bookingEntity.getBookingCategory() != null ?
-                bookingEntity.getBookingCategory().getMainCategory() : "");
-            builder.append(";");
-            builder.append(bookingEntity.getBookingCategory() != null ?
-                bookingEntity.getBookingCategory().getSubCategory() : "");
-            builder.append(";");
-            builder.append(bookingEntity.getBookingCategory() != null ?
-                bookingEntity.getBookingCategory().getSpecification() : "");
-            builder.append(";");
-            builder.append(bookingEntity.getAmount() != null ? bookingEntity.getAmount().toString() : "");
-            builder.append(";");
-            builder.append(bookingEntity.getCreditorId() != null ? bookingEntity.getCreditorId() : "");
-            builder.append(";");
-            builder.append(bookingEntity.getUsage() != null ? bookingEntity.getUsage() : "");
-            builder.append("\n");
-        });
-        return builder.toString();
+    private void writeCsvRow(Writer writer, BookingEntity bookingEntity) throws IOException {
+        writer.append(bookingEntity.getBookingDate() != null ? bookingEntity.getBookingDate().toString() : "");
+        writer.append(";");
+        writer.append(bookingEntity.getOtherAccount() != null ? bookingEntity.getOtherAccount().getOwner() : "");
+        writer.append(";");
+        writer.append(bookingEntity.getBookingCategory() != null ?
+            bookingEntity.getBookingCategory().getMainCategory() : "");
+        writer.append(";");
+        writer.append(bookingEntity.getBookingCategory() != null ?
+            bookingEntity.getBookingCategory().getSubCategory() : "");
+        writer.append(";");
+        writer.append(bookingEntity.getBookingCategory() != null ?
+            bookingEntity.getBookingCategory().getSpecification() : "");
+        writer.append(";");
+        writer.append(bookingEntity.getAmount() != null ? bookingEntity.getAmount().toString() : "");
+        writer.append(";");
+        writer.append(bookingEntity.getCreditorId() != null ? bookingEntity.getCreditorId() : "");
+        writer.append(";");
+        writer.append(bookingEntity.getUsage() != null ? bookingEntity.getUsage() : "");
+        writer.append("\n");
+    }
+
+    public BankApi getBankApi(String accessId) {
+        String bankCode = bankAccessRepository.getBankCode(accessId);
+        return bankingServiceProducer.getBankingService(bankCode).bankApi();
     }
 
     public Page<BookingEntity> getBookingsPageable(Pageable pageable, String userId, String accessId, String accountId,
                                                    BankApi bankApi) {
         if (bankApi == null) {
-            String bankCode = bankAccessRepository.getBankCode(accessId);
-            bankApi = bankingServiceProducer.getBankingService(bankCode).bankApi();
+            bankApi = getBankApi(accessId);
         }
 
         return bookingRepository.findPageableByUserIdAndAccountIdAndBankApi(pageable, userId, accountId, bankApi);
     }
 
+    public List<BookingEntity> getBookingsAfter(@Nullable BookingCursor cursor, int limit, String userId,
+                                                String accessId, String accountId, BankApi bankApi) {
+        if (bankApi == null) {
+            bankApi = getBankApi(accessId);
+        }
+
+        return bookingRepository.findByUserIdAndAccountIdAndBankApiAfter(userId, accountId, bankApi,
+            cursor != null ? cursor.getValutaDate() : null, cursor != null ? cursor.getId() : null, limit);
+    }
+
     public Iterable<BookingEntity> getBookingsById(String name, List<String> ids) {
         return bookingRepository.findByUserIdAndIds(name, ids);
     }
@@ -99,18 +133,11 @@ public class BookingService extends AccountInformationService {
         return bookingsIndexRepository.findByUserIdAndAccountId(userId, accountId);
     }
 
-    private List<BookingEntity> getBookings(String userId, String accessId, String accountId) {
-        String bankCode = bankAccessRepository.getBankCode(accessId);
-        BankApi bankApi = bankingServiceProducer.getBankingService(bankCode).bankApi();
-
-        return bookingRepository.findByUserIdAndAccountIdAndBankApi(userId, accountId, bankApi);
-    }
-
     @Transactional
     public List<BookingEntity> syncBookings(ScaStatus expectedConsentStatus, String authorisationCode,
                                             BankAccessEntity bankAccess, BankAccountEntity bankAccount,
                                             @Nullable BankApi bankApi) {
-        bankAccountRepository.updateSyncStatus(bankAccount.getId(), BankAccount.SyncStatus.SYNC);
+        bankAccountRepository.startSync(bankAccount.getId(), syncNode.getId());
 
         OnlineBankingService onlineBankingService = bankApi != null ?
             bankingServiceProducer.getBankingService(bankApi) :
@@ -128,14 +155,7 @@ public class BookingService extends AccountInformationService {
                 bankAccessRepository.save(bankAccess);
             }
 
-            List<BookingEntity> result = processBookings(onlineBankingService, bankAccess, bankAccount, response);
-
-            Optional.ofNullable(response.getBalancesReport())
-                .ifPresent(bankAccount::setBalances);
-
-            bankAccount.setSyncStatus(BankAccount.SyncStatus.READY);
-            bankAccount.setLastSync(LocalDateTime.now());
-            bankAccountRepository.save(bankAccount);
+            List<BookingEntity> result = updateBookings(onlineBankingService, bankAccess, bankAccount, response);
 
             metricsCollector.count("syncBookings", bankAccess.getBankCode(), onlineBankingService.bankApi());
 
@@ -148,68 +168,201 @@ public class BookingService extends AccountInformationService {
         }
     }
 
-    private List<BookingEntity> processBookings(OnlineBankingService onlineBankingService, BankAccessEntity bankAccess,
-                                                BankAccountEntity bankAccount, TransactionsResponse response) {
+    /**
+     * Syncs the accounts of one bank access with a single bulk transactions request. Accounts not loaded by the bulk
+     * request, e.g. because sca is needed, are synced on their own afterwards.
+     *
+     * @return the bookings by account id
+     */
+    @Transactional
+    public Map<String, List<BookingEntity>> syncBookings(BankAccessEntity bankAccess,
+                                                         List<BankAccountEntity> bankAccounts) {
+        bankAccounts.forEach(bankAccount ->
+            bankAccountRepository.startSync(bankAccount.getId(), syncNode.getId()));
+
+        OnlineBankingService onlineBankingService = bankingServiceProducer.getBankingService(bankAccess.getBankCode());
+
+        Map<String, List<BookingEntity>> result = new LinkedHashMap<>();
+        List<BankAccountEntity> notLoadedAccounts = new ArrayList<>();
+        try {
+            ConsentEntity consentEntity = consentService.validateAndGetConsent(onlineBankingService,
+                bankAccess.getConsentId(), ScaStatus.FINALISED);
+
+            TransactionsBatchResponse batchResponse = loadBookingsOnline(consentEntity, onlineBankingService,
+                bankAccess, bankAccounts);
+
+            if (!bankAccess.isTemporary()) {
+                //update bankaccess, passportstate changed
+                bankAccessRepository.save(bankAccess);
+            }
+
+            for (BankAccountEntity bankAccount : bankAccounts) {
+                TransactionsResponse response = batchResponse.getTransactionsResponses().get(bankAccount.getId());
+                if (response != null) {
+                    result.put(bankAccount.getId(), updateBookings(onlineBankingService, bankAccess, bankAccount,
+                        response));
+                } else {
+                    notLoadedAccounts.add(bankAccount);
+                }
+            }
+
+            metricsCollector.count("syncBookings", bankAccess.getBankCode(), onlineBankingService.bankApi());
+        } catch (Exception e) {
+            metricsCollector.count("syncBookings", bankAccess.getBankCode(), onlineBankingService.bankApi(), e);
+            throw e;
+        } finally {
+            bankAccounts.forEach(bankAccount ->
+                bankAccountRepository.updateSyncStatus(bankAccount.getId(), BankAccount.SyncStatus.PENDING));
+        }
+
+        notLoadedAccounts.forEach(bankAccount -> result.put(bankAccount.getId(),
+            syncBookings(ScaStatus.FINALISED, null, bankAccess, bankAccount, null)));
+        return result;
+    }
+
+    private List<BookingEntity> updateBookings(OnlineBankingService onlineBankingService,
+                                               BankAccessEntity bankAccess, BankAccountEntity bankAccount,
+                                               TransactionsResponse response) {
+        List<BookingEntity> result = processBookings(onlineBankingService, bankAccess, bankAccount, response);
+
+        Optional.ofNullable(response.getBalancesReport())
+            .ifPresent(bankAccount::setBalances);
+
+        bankAccount.setSyncStatus(BankAccount.SyncStatus.READY);
+        bankAccount.setLastSync(LocalDateTime.now());
+        bankAccountRepository.save(bankAccount);
+        return result;
+    }
+
+    /**
+     * Returns the inserted bookings of the batch and the stored bookings with changed categories, the latest booking
+     * comes first. The stored history of the account is only read if the analytics need it.
+     */
+    List<BookingEntity> processBookings(OnlineBankingService onlineBankingService, BankAccessEntity bankAccess,
+                                        BankAccountEntity bankAccount, TransactionsResponse response) {
         List<BookingEntity> newBookings = mapBookings(bankAccount, response.getBookings());
 //        mapStandingOrders(response, newBookings);
 
-        List<BookingEntity> existingBookings = bookingRepository.findByUserIdAndAccountIdAndBankApi(
-            bankAccess.getUserId(), bankAccount.getId(), onlineBankingService.bankApi());
+        List<BookingEntity> existingBookings = findExistingBookings(onlineBankingService, bankAccess, bankAccount,
+            newBookings);
+        List<BookingEntity> insertedBookings = deltaBookings(existingBookings, newBookings);
 
-        List<BookingEntity> mergedBookings;
-        if (!existingBookings.isEmpty()) {
-            mergedBookings = mergeBookings(existingBookings, newBookings);
-        } else {
-            mergedBookings = newBookings;
-        }
+        boolean analyticsEnabled = bankAccess.isCategorizeBookings() || bankAccess.isStoreAnalytics();
+        boolean rulesChanged = (insertedBookings.isEmpty() || analyticsEnabled) &&
+            rulesVersionChanged(bankAccess.getUserId(), bankAccount);
 
-        if (mergedBookings.size() == existingBookings.size() && !rulesVersionChanged(bankAccess.getUserId(),
-            bankAccount.getId())) {
+        if (insertedBookings.isEmpty() && !rulesChanged) {
             log.info("no bookings or rules changes, skip analytics");
-            return existingBookings;
+            return new ArrayList<>();
         }
 
+        List<BookingEntity> mergedBookings = Stream.of(existingBookings, insertedBookings)
+            .flatMap(Collection::stream)
+            .collect(Collectors.toList());
+        List<BookingEntity> changedBookings = insertedBookings;
+
         AnalyticsResult analyticsResult = null;
-        if (bankAccess.isCategorizeBookings() || bankAccess.isStoreAnalytics()) {
+        if (analyticsEnabled && !rulesChanged && !bankAccess.isStoreAnalytics()) {
+            //unchanged rules, stored bookings keep their categories
+            analyticsResult = analyticsService.analyzeBookings(bankAccess.getUserId(), insertedBookings);
+            if (!onlineBankingService.bookingsCategorized()) {
+                smartAnalyticsMapper.applyCategories(insertedBookings, analyticsResult);
+            }
+            bankAccount.setLastAnalytics(LocalDateTime.now());
+        } else if (analyticsEnabled) {
+            //booking groups and changed rules need the whole account history
+            mergedBookings = Stream.of(bookingRepository.findByUserIdAndAccountIdAndBankApi(bankAccess.getUserId(),
+                bankAccount.getId(), onlineBankingService.bankApi()), insertedBookings)
+                .flatMap(Collection::stream)
+                .collect(Collectors.toList());
+            Map<BookingEntity, BookingCategory> previousCategories = new IdentityHashMap<>();
+            mergedBookings.forEach(booking -> previousCategories.put(booking, booking.getBookingCategory()));
+
             analyticsResult = analyticsService.analyzeBookings(bankAccess.getUserId(), mergedBookings);
             if (!onlineBankingService.bookingsCategorized()) {
                 smartAnalyticsMapper.applyCategories(mergedBookings, analyticsResult);
             }
+
+            changedBookings = mergedBookings.stream()
+                .filter(booking -> booking.getId() == null ||
+                    !Objects.equals(previousCategories.get(booking), booking.getBookingCategory()))
+                .collect(Collectors.toList());
+            bankAccount.setLastAnalytics(LocalDateTime.now());
         }
 
         if (bankAccess.isStoreBookings()) {
-            bookingRepository.save(mergedBookings);
+            bookingRepository.save(changedBookings);
             //not working with PSD2
 //            saveStandingOrders(bankAccount, response.getStandingOrders());
-            updateBookingsIndex(bankAccount, mergedBookings);
+            updateBookingsIndex(bankAccount, changedBookings);
         }
 
         if (bankAccess.isStoreAnonymizedBookings()) {
-            anonymizationService.anonymizeAndStoreBookingsAsync(mergedBookings);
+            anonymizationService.anonymizeAndStoreBookingsAsync(changedBookings);
         }
 
         saveAnalytics(analyticsResult, bankAccess, bankAccount, mergedBookings);
 
+        List<BookingEntity> syncedBookings = new ArrayList<>(changedBookings);
+
         // reverse order - last booking must be first in the list
-        if (!mergedBookings.isEmpty()) {
-            LocalDate firstBookingData = mergedBookings.get(0).getBookingDate();
-            LocalDate lastBookingDate = mergedBookings.get(mergedBookings.size() - 1).getBookingDate();
+        if (!syncedBookings.isEmpty()) {
+            LocalDate firstBookingData = syncedBookings.get(0).getBookingDate();
+            LocalDate lastBookingDate = syncedBookings.get(syncedBookings.size() - 1).getBookingDate();
 
             if (firstBookingData != null && lastBookingDate != null && firstBookingData.compareTo(lastBookingDate) < 0) {
-                Collections.reverse(mergedBookings); // just switch order of bookings without changing siblings
+                Collections.reverse(syncedBookings); // just switch order of bookings without changing siblings
             }
         }
 
-        return mergedBookings;
+        return syncedBookings;
     }
 
-    private boolean rulesVersionChanged(String userId, String accountId) {
-        ConfigStatus analyticsConfigStatus = smartAnalyticsService.getAnalyticsConfigStatus();
+    /**
+     * Loads only the stored bookings overlapping with the given batch. Without external ids bookings cannot be
+     * matched, so the whole account history is loaded instead.
+     */
+    private List<BookingEntity> findExistingBookings(OnlineBankingService onlineBankingService,
+                                                     BankAccessEntity bankAccess, BankAccountEntity bankAccount,
+                                                     List<BookingEntity> newBookings) {
+        if (newBookings.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        if (newBookings.stream().anyMatch(booking -> booking.getExternalId() == null)) {
+            return bookingRepository.findByUserIdAndAccountIdAndBankApi(bankAccess.getUserId(),
+                bankAccount.getId(), onlineBankingService.bankApi());
+        }
+
+        Set<String> externalIds = newBookings.stream()
+            .map(Booking::getExternalId)
+            .collect(Collectors.toSet());
+
+        return bookingRepository.findByUserIdAndAccountIdAndBankApiAndExternalIdIn(bankAccess.getUserId(),
+            bankAccount.getId(), onlineBankingService.bankApi(), externalIds);
+    }
+
+    /**
+     * Bookings of the batch not yet contained in the db bookings, first one wins for duplicate external ids.
+     */
+    List<BookingEntity> deltaBookings(List<BookingEntity> dbBookings, List<BookingEntity> newBookings) {
+        Set<String> knownExternalIds = dbBookings.stream()
+            .map(Booking::getExternalId)
+            .collect(Collectors.toCollection(HashSet::new));
+
+        return newBookings.stream()
+            .filter(booking -> knownExternalIds.add(booking.getExternalId()))
+            .collect(Collectors.toList());
+    }
+
+    private boolean rulesVersionChanged(String userId, BankAccountEntity bankAccount) {
+        ConfigStatus analyticsConfigStatus = analyticsConfigStatusCache.getAnalyticsConfigStatus();
         if (analyticsConfigStatus.getLastChangeDate() == null) {
             return false;
         }
 
-        return analyticsRepository.findLastAnalyticsDateByUserIdAndAccountId(userId, accountId)
+        return Optional.ofNullable(bankAccount.getLastAnalytics())
+            .or(() -> analyticsRepository.findLastAnalyticsDateByUserIdAndAccountId(userId, bankAccount.getId()))
             .map(lastAnalyticsDate -> {
                 if (lastAnalyticsDate.isBefore(analyticsConfigStatus.getLastChangeDate())) {
                     return true;
@@ -229,16 +382,21 @@ public class BookingService extends AccountInformationService {
         }
 
         //period included booking should be mapped with entity db id
+        Map<String, String> entityIdsByExternalId = new HashMap<>();
+        bookingEntities.stream()
+            .filter(bookingEntity -> bookingEntity.getExternalId() != null)
+            .forEach(bookingEntity -> entityIdsByExternalId.putIfAbsent(bookingEntity.getExternalId(),
+                bookingEntity.getId()));
+
         analyticsResult.getBookingGroups()
             .stream()
             .filter(bookingGroup -> bookingGroup.getBookingPeriods() != null)
             .forEach(bookingGroup ->
                 bookingGroup.getBookingPeriods().forEach(period ->
-                    period.getBookings().forEach(executedBooking -> bookingEntities.stream()
-                        .filter(bookingEntity -> bookingEntity.getExternalId() != null)
-                        .filter(bookingEntity -> bookingEntity.getExternalId().equals(executedBooking.getBookingId()))
-                        .findFirst()
-                        .ifPresent(bookingEntity -> executedBooking.setBookingId(bookingEntity.getId())))));
+                    period.getBookings().stream()
+                        .filter(executedBooking -> entityIdsByExternalId.containsKey(executedBooking.getBookingId()))
+                        .forEach(executedBooking ->
+                            executedBooking.setBookingId(entityIdsByExternalId.get(executedBooking.getBookingId())))));
 
         if (bankAccess.isStoreAnalytics()) {
             analyticsService.saveAccountAnalytics(bankAccount, analyticsResult.getBookingGroups());
@@ -324,6 +482,36 @@ public class BookingService extends AccountInformationService {
         }
     }
 
+    private TransactionsBatchResponse loadBookingsOnline(ConsentEntity consentEntity,
+                                                         OnlineBankingService onlineBankingService,
+                                                         BankAccessEntity bankAccess,
+                                                         List<BankAccountEntity> bankAccounts) {
+        BankApiUser bankApiUser = userService.checkApiRegistration(onlineBankingService,
+            userService.findUser(bankAccess.getUserId()));
+
+        BankEntity bankEntity = bankService.findBank(bankAccess.getBankCode());
+
+        Map<String, TransactionRequest<LoadTransactions>> loadBookingsRequests = new LinkedHashMap<>();
+        bankAccounts.forEach(bankAccount -> {
+            //external (figo, finapi) account must exist, otherwise loading bookings will not work
+            if (onlineBankingService.externalBankAccountRequired()) {
+                checkExternalBankAccountExists(bankAccess, bankAccount, bankApiUser, onlineBankingService);
+            }
+            loadBookingsRequests.put(bankAccount.getId(), createLoadBookingsRequest(bankAccess, bankAccount,
+                bankApiUser, consentEntity, bankEntity, null));
+        });
+
+        try {
+            TransactionsBatchResponse batchResponse = onlineBankingService.loadTransactions(loadBookingsRequests);
+            //loaded responses never need sca, the consent is stored with the updated consent data
+            batchResponse.getTransactionsResponses().values()
+                .forEach(response -> checkSca(response, consentEntity, onlineBankingService));
+            return batchResponse;
+        } catch (MultibankingException e) {
+            throw handleMultibankingException(bankAccess, e);
+        }
+    }
+
     private TransactionRequest<LoadTransactions> createLoadBookingsRequest(BankAccessEntity bankAccess,
                                                                            BankAccountEntity bankAccount,
                                                                            BankApiUser bankApiUser,
@@ -356,13 +544,6 @@ public class BookingService extends AccountInformationService {
             .collect(Collectors.toList());
     }
 
-    List<BookingEntity> mergeBookings(List<BookingEntity> dbBookings, List<BookingEntity> newBookings) {
-        return Stream.of(dbBookings, newBookings)
-            .flatMap(Collection::stream)
-            .collect(Collectors.collectingAndThen(Collectors.toCollection(() ->
-                new TreeSet<>(Comparator.comparing(Booking::getExternalId, Comparator.nullsLast(Comparator.naturalOrder())))), ArrayList::new));
-    }
-
     //only for figo
     private void checkExternalBankAccountExists(BankAccessEntity bankAccess,
                                                 BankAccountEntity bankAccount, BankApiUser bankApiUser,
@@ -0,0 +1,64 @@
+package de.adorsys.multibanking.service;
+
+import org.springframework.web.context.request.AbstractRequestAttributes;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Detached request attributes for work running outside the servlet request thread (sync jobs, streamed downloads),
+ * request scoped beans (principal, user secret) are created again on the worker thread from the propagated security
+ * context.
+ */
+public class DetachedRequestAttributes extends AbstractRequestAttributes {
+
+    private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+    private final String sessionId = UUID.randomUUID().toString();
+
+    @Override
+    public Object getAttribute(String name, int scope) {
+        return attributes.get(name);
+    }
+
+    @Override
+    public void setAttribute(String name, Object value, int scope) {
+        attributes.put(name, value);
+    }
+
+    @Override
+    public void removeAttribute(String name, int scope) {
+        attributes.remove(name);
+        removeRequestDestructionCallback(name);
+    }
+
+    @Override
+    public String[] getAttributeNames(int scope) {
+        return attributes.keySet().toArray(new String[0]);
+    }
+
+    @Override
+    public void registerDestructionCallback(String name, Runnable callback, int scope) {
+        registerRequestDestructionCallback(name, callback);
+    }
+
+    @Override
+    public Object resolveReference(String key) {
+        return null;
+    }
+
+    @Override
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    @Override
+    public Object getSessionMutex() {
+        return this;
+    }
+
+    @Override
+    protected void updateAccessedSessionAttributes() {
+        //no session
+    }
+}
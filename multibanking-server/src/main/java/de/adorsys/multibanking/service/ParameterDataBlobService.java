@@ -0,0 +1,41 @@
+package de.adorsys.multibanking.service;
+
+import de.adorsys.multibanking.domain.ParameterDataBlobEntity;
+import de.adorsys.multibanking.hbci.HbciBlobStore;
+import de.adorsys.multibanking.pers.spi.repository.ParameterDataBlobRepositoryIf;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Persists the FinTS parameter data by content hash, identical upd of several consents is stored once.
+ */
+@RequiredArgsConstructor
+@Service
+public class ParameterDataBlobService implements HbciBlobStore {
+
+    private final ParameterDataBlobRepositoryIf parameterDataBlobRepository;
+
+    @Override
+    public Optional<Map<String, String>> load(String hash) {
+        return parameterDataBlobRepository.findById(hash)
+            .map(ParameterDataBlobEntity::getData);
+    }
+
+    @Override
+    public void store(String hash, Map<String, String> data) {
+        //content addressed, an existing blob is never changed
+        if (parameterDataBlobRepository.exists(hash)) {
+            return;
+        }
+
+        ParameterDataBlobEntity parameterDataBlob = new ParameterDataBlobEntity();
+        parameterDataBlob.setId(hash);
+        parameterDataBlob.setData(data);
+        parameterDataBlob.setCreatedDate(LocalDateTime.now());
+        parameterDataBlobRepository.save(parameterDataBlob);
+    }
+}
@@ -0,0 +1,97 @@
+package de.adorsys.multibanking.service;
+
+import de.adorsys.multibanking.domain.BookingEntity;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent syncs of one account within this instance, callers arriving while a sync is running wait
+ * for it and share its result or exception instead of starting another bank round trip.
+ */
+@Slf4j
+@Component
+public class SingleFlightSyncRegistry {
+
+    private final Map<String, CompletableFuture<List<BookingEntity>>> runningSyncs = new ConcurrentHashMap<>();
+
+    public boolean isRunning(String accountId) {
+        return runningSyncs.containsKey(accountId);
+    }
+
+    public List<BookingEntity> sync(String accountId, Supplier<List<BookingEntity>> syncFunction) {
+        CompletableFuture<List<BookingEntity>> flight = new CompletableFuture<>();
+        CompletableFuture<List<BookingEntity>> runningFlight = runningSyncs.putIfAbsent(accountId, flight);
+        if (runningFlight != null) {
+            log.info("sync for account [{}] already running, wait for result", accountId);
+            return await(runningFlight);
+        }
+
+        try {
+            List<BookingEntity> result = syncFunction.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            runningSyncs.remove(accountId, flight);
+        }
+    }
+
+    /**
+     * Syncs several accounts with one sync function, e.g. a bulk request. Every account is claimed like a single
+     * sync. Accounts with a running sync are left out of the sync function, their running sync is awaited instead.
+     *
+     * @param syncFunction syncs the claimed account ids and returns the bookings by account id
+     * @return the bookings by account id
+     */
+    public Map<String, List<BookingEntity>> syncAll(List<String> accountIds,
+                                                    Function<Set<String>, Map<String, List<BookingEntity>>> syncFunction) {
+        Map<String, CompletableFuture<List<BookingEntity>>> flights = new LinkedHashMap<>();
+        Map<String, CompletableFuture<List<BookingEntity>>> runningFlights = new LinkedHashMap<>();
+        for (String accountId : accountIds) {
+            CompletableFuture<List<BookingEntity>> flight = new CompletableFuture<>();
+            CompletableFuture<List<BookingEntity>> runningFlight = runningSyncs.putIfAbsent(accountId, flight);
+            if (runningFlight != null) {
+                log.info("sync for account [{}] already running, wait for result", accountId);
+                runningFlights.put(accountId, runningFlight);
+            } else {
+                flights.put(accountId, flight);
+            }
+        }
+
+        Map<String, List<BookingEntity>> result = new LinkedHashMap<>();
+        if (!flights.isEmpty()) {
+            try {
+                result.putAll(syncFunction.apply(Collections.unmodifiableSet(flights.keySet())));
+                flights.forEach((accountId, flight) -> flight.complete(result.get(accountId)));
+            } catch (RuntimeException e) {
+                flights.values().forEach(flight -> flight.completeExceptionally(e));
+                throw e;
+            } finally {
+                flights.forEach(runningSyncs::remove);
+            }
+        }
+
+        runningFlights.forEach((accountId, runningFlight) -> result.put(accountId, await(runningFlight)));
+        return result;
+    }
+
+    private List<BookingEntity> await(CompletableFuture<List<BookingEntity>> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package de.adorsys.multibanking.service;
+
+import de.adorsys.multibanking.domain.response.UpdateAuthResponse;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class SyncJob {
+
+    private String id;
+    private String userId;
+    private String accessId;
+    private String accountId;
+    private String bankCode;
+    private Status status;
+    private LocalDateTime createdDate;
+    private LocalDateTime startedDate;
+    private LocalDateTime finishedDate;
+    private String errorMessage;
+    private UpdateAuthResponse authorisationResponse;
+    private String consentId;
+    private String authorisationId;
+
+    public boolean isDone() {
+        return status == Status.FINISHED || status == Status.FAILED || status == Status.AUTHORISATION_REQUIRED;
+    }
+
+    public enum Status {
+        QUEUED, RUNNING, FINISHED, FAILED, AUTHORISATION_REQUIRED
+    }
+}
@@ -0,0 +1,212 @@
+package de.adorsys.multibanking.service;
+
+import de.adorsys.multibanking.domain.BankAccessEntity;
+import de.adorsys.multibanking.domain.BankAccount;
+import de.adorsys.multibanking.domain.BankAccountEntity;
+import de.adorsys.multibanking.exception.SyncInProgressException;
+import de.adorsys.multibanking.exception.SyncJobRejectedException;
+import de.adorsys.multibanking.exception.TransactionAuthorisationRequiredException;
+import de.adorsys.multibanking.pers.spi.repository.BankAccountRepositoryIf;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static de.adorsys.multibanking.domain.ScaStatus.FINALISED;
+
+/**
+ * Runs account syncs decoupled from the web request. Jobs are queued per bank and dispatched to the sync job
+ * executor with at most {@code sync.jobs.max-per-bank} running jobs per bank.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class SyncJobService {
+
+    private final BookingService bookingService;
+    private final BankAccountRepositoryIf bankAccountRepository;
+    private final SingleFlightSyncRegistry syncRegistry;
+    private final SyncNode syncNode;
+    private final ThreadPoolTaskExecutor syncJobExecutor;
+
+    private final Map<String, SyncJob> syncJobs = new ConcurrentHashMap<>();
+    private final Map<String, Deque<Runnable>> queuedJobs = new HashMap<>();
+    private final Map<String, Integer> runningJobs = new HashMap<>();
+    private int queuedJobsCount;
+
+    @Value("${sync.jobs.max-per-bank:5}")
+    private int maxJobsPerBank;
+    @Value("${sync.jobs.max-queued:1000}")
+    private int maxQueuedJobs;
+    @Value("${sync.jobs.retention-minutes:60}")
+    private int retentionMinutes;
+    @Value("${sync.stale-minutes:60}")
+    private int staleMinutes;
+
+    /**
+     * Sync jobs live in memory only, an account left in sync by a crash or restart would block further syncs. Only
+     * the syncs of this node and syncs older than {@code sync.stale-minutes} are reset, other nodes keep their
+     * running syncs.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resetStaleSyncStatus() {
+        long resetAccounts = bankAccountRepository.resetStaleSyncStatus(syncNode.getId(),
+            LocalDateTime.now().minusMinutes(staleMinutes));
+        if (resetAccounts > 0) {
+            log.info("reset sync status of [{}] accounts left in sync", resetAccounts);
+        }
+    }
+
+    public SyncJob submitSyncJob(BankAccessEntity bankAccess, BankAccountEntity bankAccount) {
+        if (bankAccountRepository.getSyncStatus(bankAccount.getId()) == BankAccount.SyncStatus.SYNC
+            && !syncRegistry.isRunning(bankAccount.getId())) {
+            throw new SyncInProgressException(bankAccount.getId());
+        }
+
+        SyncJob syncJob = new SyncJob();
+        syncJob.setId(UUID.randomUUID().toString());
+        syncJob.setUserId(bankAccess.getUserId());
+        syncJob.setAccessId(bankAccess.getId());
+        syncJob.setAccountId(bankAccount.getId());
+        syncJob.setBankCode(bankAccess.getBankCode());
+        syncJob.setStatus(SyncJob.Status.QUEUED);
+        syncJob.setCreatedDate(LocalDateTime.now());
+
+        SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
+        securityContext.setAuthentication(SecurityContextHolder.getContext().getAuthentication());
+        Runnable task = () -> runSyncJob(syncJob, bankAccess, bankAccount, securityContext);
+
+        bankAccountRepository.startSync(bankAccount.getId(), syncNode.getId());
+        if (!enqueue(syncJob, task)) {
+            bankAccountRepository.updateSyncStatus(bankAccount.getId(), BankAccount.SyncStatus.PENDING);
+            throw new SyncJobRejectedException(bankAccount.getId());
+        }
+
+        log.info("sync job [{}] for account [{}] queued", syncJob.getId(), bankAccount.getId());
+        return copy(syncJob);
+    }
+
+    public Optional<SyncJob> getSyncJob(String userId, String accessId, String accountId, String jobId) {
+        return Optional.ofNullable(syncJobs.get(jobId))
+            .filter(syncJob -> syncJob.getUserId().equals(userId) && syncJob.getAccessId().equals(accessId)
+                && syncJob.getAccountId().equals(accountId))
+            .map(this::copy);
+    }
+
+    @Scheduled(fixedDelay = 60 * 1000)
+    void removeExpiredJobs() {
+        LocalDateTime expirationDate = LocalDateTime.now().minusMinutes(retentionMinutes);
+        syncJobs.values().removeIf(syncJob -> {
+            synchronized (syncJob) {
+                return syncJob.isDone() && syncJob.getFinishedDate().isBefore(expirationDate);
+            }
+        });
+    }
+
+    private synchronized boolean enqueue(SyncJob syncJob, Runnable task) {
+        if (queuedJobsCount >= maxQueuedJobs) {
+            return false;
+        }
+        syncJobs.put(syncJob.getId(), syncJob);
+        queuedJobs.computeIfAbsent(syncJob.getBankCode(), bankCode -> new ArrayDeque<>()).add(task);
+        queuedJobsCount++;
+        dispatch(syncJob.getBankCode());
+        return true;
+    }
+
+    private synchronized void dispatch(String bankCode) {
+        Deque<Runnable> bankQueue = queuedJobs.get(bankCode);
+        while (bankQueue != null && !bankQueue.isEmpty() && runningJobs.getOrDefault(bankCode, 0) < maxJobsPerBank) {
+            Runnable task = bankQueue.poll();
+            queuedJobsCount--;
+            runningJobs.merge(bankCode, 1, Integer::sum);
+            try {
+                syncJobExecutor.execute(() -> {
+                    try {
+                        task.run();
+                    } finally {
+                        jobDone(bankCode);
+                    }
+                });
+            } catch (TaskRejectedException e) {
+                log.error("sync job rejected by executor", e);
+                runningJobs.merge(bankCode, -1, Integer::sum);
+                bankQueue.addFirst(task);
+                queuedJobsCount++;
+                return;
+            }
+        }
+        if (bankQueue != null && bankQueue.isEmpty()) {
+            queuedJobs.remove(bankCode);
+        }
+    }
+
+    private synchronized void jobDone(String bankCode) {
+        if (runningJobs.merge(bankCode, -1, Integer::sum) <= 0) {
+            runningJobs.remove(bankCode);
+        }
+        dispatch(bankCode);
+    }
+
+    private void runSyncJob(SyncJob syncJob, BankAccessEntity bankAccess, BankAccountEntity bankAccount,
+                            SecurityContext securityContext) {
+        DetachedRequestAttributes requestAttributes = new DetachedRequestAttributes();
+        SecurityContextHolder.setContext(securityContext);
+        RequestContextHolder.setRequestAttributes(requestAttributes);
+
+        synchronized (syncJob) {
+            syncJob.setStatus(SyncJob.Status.RUNNING);
+            syncJob.setStartedDate(LocalDateTime.now());
+        }
+
+        try {
+            syncRegistry.sync(bankAccount.getId(), () -> bookingService.syncBookings(FINALISED, null, bankAccess,
+                bankAccount, null));
+            synchronized (syncJob) {
+                syncJob.setStatus(SyncJob.Status.FINISHED);
+            }
+        } catch (TransactionAuthorisationRequiredException e) {
+            synchronized (syncJob) {
+                syncJob.setStatus(SyncJob.Status.AUTHORISATION_REQUIRED);
+                syncJob.setAuthorisationResponse(e.getResponse());
+                syncJob.setConsentId(e.getConsentId());
+                syncJob.setAuthorisationId(e.getAuthorisationId());
+            }
+        } catch (Exception e) {
+            log.error("sync job [{}] for account [{}] failed", syncJob.getId(), bankAccount.getId(), e);
+            bankAccountRepository.updateSyncStatus(bankAccount.getId(), BankAccount.SyncStatus.PENDING);
+            synchronized (syncJob) {
+                syncJob.setStatus(SyncJob.Status.FAILED);
+                syncJob.setErrorMessage(e.getMessage());
+            }
+        } finally {
+            synchronized (syncJob) {
+                syncJob.setFinishedDate(LocalDateTime.now());
+            }
+            requestAttributes.requestCompleted();
+            RequestContextHolder.resetRequestAttributes();
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private SyncJob copy(SyncJob syncJob) {
+        SyncJob target = new SyncJob();
+        synchronized (syncJob) {
+            BeanUtils.copyProperties(syncJob, target);
+        }
+        return target;
+    }
+}
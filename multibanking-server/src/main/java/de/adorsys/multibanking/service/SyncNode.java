@@ -0,0 +1,37 @@
+package de.adorsys.multibanking.service;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.UUID;
+
+/**
+ * Id of this instance stored with the sync status of the accounts it syncs. Defaults to the host name, so a restarted
+ * instance recognizes the syncs it left behind.
+ */
+@Slf4j
+@Component
+public class SyncNode {
+
+    @Getter
+    private final String id;
+
+    public SyncNode(@Value("${sync.node-id:}") String nodeId) {
+        this.id = StringUtils.hasText(nodeId) ? nodeId : hostName();
+        log.info("sync node id [{}]", id);
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            log.warn("unknown host name, syncs of this node are only reset after the stale timeout");
+            return UUID.randomUUID().toString();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package de.adorsys.multibanking.service.analytics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.handler.HandlerInterceptorAdapter;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * Invalidates the cached config status after successful uploads to the embedded smartanalytics config endpoints.
+ */
+@RequiredArgsConstructor
+@Component
+public class AnalyticsConfigChangeInterceptor extends HandlerInterceptorAdapter {
+
+    public static final String CONFIG_PATH_PATTERN = "/api/v1/config/**";
+
+    private final AnalyticsConfigStatusCache analyticsConfigStatusCache;
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (ex == null && !HttpMethod.GET.matches(request.getMethod()) && response.getStatus() < 400) {
+            analyticsConfigStatusCache.invalidate();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package de.adorsys.multibanking.service.analytics;
+
+import de.adorsys.smartanalytics.api.config.ConfigStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caches the smartanalytics config status for both the embedded and the remote implementation, the status is
+ * reloaded after the ttl or after a config upload.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class AnalyticsConfigStatusCache {
+
+    private final SmartAnalyticsIf smartAnalyticsService;
+
+    @Value("${smartanalytics.status-cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    //incremented on every config upload, a status fetched before the upload is never served afterwards
+    private final AtomicLong generation = new AtomicLong();
+    private volatile CachedConfigStatus cachedConfigStatus;
+
+    public ConfigStatus getAnalyticsConfigStatus() {
+        CachedConfigStatus cached = cachedConfigStatus;
+        if (cached == null || cached.isExpired() || cached.generation != generation.get()) {
+            long fetchGeneration = generation.get();
+            cached = new CachedConfigStatus(smartAnalyticsService.getAnalyticsConfigStatus(),
+                System.currentTimeMillis() + ttlSeconds * 1000, fetchGeneration);
+            if (fetchGeneration == generation.get()) {
+                cachedConfigStatus = cached;
+            }
+        }
+        return cached.configStatus;
+    }
+
+    public void invalidate() {
+        log.debug("analytics config changed, invalidate config status");
+        generation.incrementAndGet();
+        cachedConfigStatus = null;
+    }
+
+    private static class CachedConfigStatus {
+
+        private final ConfigStatus configStatus;
+        private final long expirationTime;
+        private final long generation;
+
+        CachedConfigStatus(ConfigStatus configStatus, long expirationTime, long generation) {
+            this.configStatus = configStatus;
+            this.expirationTime = expirationTime;
+            this.generation = generation;
+        }
+
+        boolean isExpired() {
+            return System.currentTimeMillis() >= expirationTime;
+        }
+    }
+}
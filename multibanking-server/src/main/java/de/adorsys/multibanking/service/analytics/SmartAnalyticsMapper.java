@@ -15,16 +15,23 @@ import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @Mapper(componentModel = "spring")
 public abstract class SmartAnalyticsMapper {
 
     public void applyCategories(List<BookingEntity> bookingEntities, AnalyticsResult result) {
+        Map<String, BookingEntity> bookingEntitiesByExternalId = new HashMap<>();
+        bookingEntities.stream()
+            .filter(bookingEntity -> bookingEntity.getExternalId() != null)
+            .forEach(bookingEntity -> bookingEntitiesByExternalId.putIfAbsent(bookingEntity.getExternalId(),
+                bookingEntity));
+
         result.getBookings().forEach(categorizedBooking ->
-            bookingEntities.stream()
-                .filter(bookingEntity -> categorizedBooking.getBooking().getBookingId().equals(bookingEntity.getExternalId()))
-                .findFirst()
+            Optional.ofNullable(bookingEntitiesByExternalId.get(categorizedBooking.getBooking().getBookingId()))
                 .ifPresent(bookingEntity -> {
                     if (categorizedBooking.getMainCategory() != null) {
                         bookingEntity.setBookingCategory(toBookingcategory(categorizedBooking));
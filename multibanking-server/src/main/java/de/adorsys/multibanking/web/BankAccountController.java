@@ -11,6 +11,7 @@ import de.adorsys.multibanking.pers.spi.repository.BankAccessRepositoryIf;
 import de.adorsys.multibanking.pers.spi.repository.BankAccountRepositoryIf;
 import de.adorsys.multibanking.service.BankAccountService;
 import de.adorsys.multibanking.service.BookingService;
+import de.adorsys.multibanking.service.SingleFlightSyncRegistry;
 import de.adorsys.multibanking.web.mapper.BankAccountMapper;
 import de.adorsys.multibanking.web.mapper.ConsentAuthorisationMapper;
 import de.adorsys.multibanking.web.model.BankAccountTO;
@@ -51,6 +52,7 @@ public class BankAccountController {
     private final BankAccountMapper bankAccountMapper;
     private final BankAccountService bankAccountService;
     private final BookingService bookingService;
+    private final SingleFlightSyncRegistry syncRegistry;
     private final BankAccountRepositoryIf bankAccountRepository;
     private final BankAccessRepositoryIf bankAccessRepository;
     private final ConsentAuthorisationMapper consentAuthorisationMapper;
@@ -98,23 +100,66 @@ public class BankAccountController {
         BankAccountEntity bankAccount = bankAccountRepository.findByUserIdAndId(principal.getName(), accountId)
             .orElseThrow(() -> new ResourceNotFoundException(BankAccountEntity.class, accountId));
 
-        if (bankAccount.getSyncStatus() == BankAccount.SyncStatus.SYNC) {
+        if (bankAccount.getSyncStatus() == BankAccount.SyncStatus.SYNC && !syncRegistry.isRunning(accountId)) {
             throw new SyncInProgressException(bankAccount.getId());
         }
 
         try {
-            bookingService.syncBookings(FINALISED, null, bankAccess, bankAccount, null);
+            syncRegistry.sync(accountId, () -> bookingService.syncBookings(FINALISED, null, bankAccess, bankAccount,
+                null));
             return new ResponseEntity<>(HttpStatus.NO_CONTENT);
         } catch (TransactionAuthorisationRequiredException e) {
-            List<Link> links = new ArrayList<>();
-            links.add(linkTo(methodOn(ConsentAuthorisationController.class).getConsentAuthorisationStatus(e.getConsentId(),
-                e.getAuthorisationId())).withSelfRel());
-            links.add(linkTo(methodOn(ConsentAuthorisationController.class).transactionAuthorisation(e.getConsentId(),
-                e.getAuthorisationId(), null)).withRel("transactionAuthorisation"));
-            return ResponseEntity.accepted().body(new Resource<>(consentAuthorisationMapper.toUpdateAuthResponseTO(e.getResponse()), links));
+            return transactionAuthorisationResponse(e);
         }
     }
 
+    @Operation(description = "Trigger sync of all accounts of the bank access", security = {
+        @SecurityRequirement(name = "multibanking_auth", scopes = "openid")})
+    @ApiResponse(responseCode = "204", description = "Sync started", content = {
+        @Content(schema = @Schema(implementation = void.class))
+    })
+    @ApiResponse(responseCode = "202", description = "Challenge response", content = {
+        @Content(schema = @Schema(ref = "#/components/schemas/ResourceConsentAuthorisationResponse"))
+    })
+    @PutMapping("/sync")
+    public ResponseEntity syncAllBookings(@PathVariable String accessId) {
+        BankAccessEntity bankAccess = bankAccessRepository.findByUserIdAndId(principal.getName(), accessId)
+            .orElseThrow(() -> new ResourceNotFoundException(BankAccessEntity.class, accessId));
+
+        List<BankAccountEntity> bankAccounts = bankAccountRepository.findByUserIdAndBankAccessId(principal.getName(),
+            accessId);
+
+        bankAccounts.stream()
+            .filter(bankAccount -> bankAccount.getSyncStatus() == BankAccount.SyncStatus.SYNC
+                && !syncRegistry.isRunning(bankAccount.getId()))
+            .findFirst()
+            .ifPresent(bankAccount -> {
+                throw new SyncInProgressException(bankAccount.getId());
+            });
+
+        List<String> accountIds = bankAccounts.stream()
+            .map(BankAccountEntity::getId)
+            .collect(toList());
+        try {
+            syncRegistry.syncAll(accountIds, claimedAccountIds -> bookingService.syncBookings(bankAccess,
+                bankAccounts.stream()
+                    .filter(bankAccount -> claimedAccountIds.contains(bankAccount.getId()))
+                    .collect(toList())));
+            return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+        } catch (TransactionAuthorisationRequiredException e) {
+            return transactionAuthorisationResponse(e);
+        }
+    }
+
+    private ResponseEntity transactionAuthorisationResponse(TransactionAuthorisationRequiredException e) {
+        List<Link> links = new ArrayList<>();
+        links.add(linkTo(methodOn(ConsentAuthorisationController.class).getConsentAuthorisationStatus(e.getConsentId(),
+            e.getAuthorisationId())).withSelfRel());
+        links.add(linkTo(methodOn(ConsentAuthorisationController.class).transactionAuthorisation(e.getConsentId(),
+            e.getAuthorisationId(), null)).withRel("transactionAuthorisation"));
+        return ResponseEntity.accepted().body(new Resource<>(consentAuthorisationMapper.toUpdateAuthResponseTO(e.getResponse()), links));
+    }
+
     private List<Resource<BankAccountTO>> mapToResources(List<BankAccountEntity> accountEntities, String accessId) {
         return accountEntities.stream()
             .map(accountEntity -> mapToResource(accountEntity, accessId))
@@ -128,6 +173,7 @@ public class BankAccountController {
             linkTo(methodOn(BankAccountAnalyticsController.class).getAccountAnalytics(accessId,
                 accountEntity.getId())).withRel("analytics"),
             linkTo(methodOn(BankAccountController.class).syncBookings(accessId, accountEntity.getId())).withRel("sync"),
+            linkTo(methodOn(SyncJobController.class).createSyncJob(accessId, accountEntity.getId())).withRel("syncJobs"),
             linkTo(methodOn(BookingController.class).getBookings(accessId, accountEntity.getId(), null, null, null,
                 null)).withRel("bookings"));
     }
@@ -6,7 +6,9 @@ import de.adorsys.multibanking.exception.SyncInProgressException;
 import de.adorsys.multibanking.pers.spi.repository.BankAccessRepositoryIf;
 import de.adorsys.multibanking.pers.spi.repository.BankAccountRepositoryIf;
 import de.adorsys.multibanking.pers.spi.repository.BookingRepositoryIf;
+import de.adorsys.multibanking.service.BookingCursor;
 import de.adorsys.multibanking.service.BookingService;
+import de.adorsys.multibanking.service.DetachedRequestAttributes;
 import de.adorsys.multibanking.web.mapper.BankApiMapper;
 import de.adorsys.multibanking.web.mapper.BookingMapper;
 import de.adorsys.multibanking.web.model.BankApiTO;
@@ -21,14 +23,18 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.Link;
 import org.springframework.hateoas.Resource;
 import org.springframework.hateoas.Resources;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.security.Principal;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -43,6 +49,8 @@ import static org.springframework.hateoas.mvc.ControllerLinkBuilder.methodOn;
 @RequestMapping(path = "api/v1/bankaccesses/{accessId}/accounts/{accountId}/bookings")
 public class BookingController {
 
+    private static final int MAX_KEYSET_PAGE_SIZE = 2000;
+
     private final BookingMapper bookingMapper;
     private final BankApiMapper bankApiMapper;
     private final BookingService bookingService;
@@ -80,6 +88,42 @@ public class BookingController {
             });
     }
 
+    @Operation(description = "Read account bookings page by page with a cursor, newest valuta date first",
+        security = {@SecurityRequirement(name = "multibanking_auth", scopes = "openid")})
+    @GetMapping("/keyset")
+    public Resources<BookingTO> getBookingsKeyset(@PathVariable String accessId,
+                                                  @PathVariable String accountId,
+                                                  @RequestParam(required = false) BankApiTO bankApi,
+                                                  @RequestParam(required = false) String cursor,
+                                                  @RequestParam(defaultValue = "20") int size) {
+        checkBankAccountExists(accessId, accountId);
+
+        if (bankAccountRepository.getSyncStatus(accountId) == BankAccount.SyncStatus.SYNC) {
+            throw new SyncInProgressException(accountId);
+        }
+
+        int limit = Math.max(1, Math.min(size, MAX_KEYSET_PAGE_SIZE));
+        BookingCursor bookingCursor = Optional.ofNullable(cursor)
+            .map(BookingCursor::parse)
+            .orElse(null);
+
+        //one booking more than requested tells if there is a next page
+        List<BookingEntity> bookingEntities = bookingService.getBookingsAfter(bookingCursor, limit + 1,
+            principal.getName(), accessId, accountId, bankApiMapper.toBankApi(bankApi));
+
+        List<Link> links = new ArrayList<>();
+        links.add(linkTo(methodOn(BookingController.class).getBookingsKeyset(accessId, accountId, bankApi, cursor,
+            limit)).withSelfRel());
+        if (bookingEntities.size() > limit) {
+            bookingEntities = bookingEntities.subList(0, limit);
+            String nextCursor = BookingCursor.of(bookingEntities.get(limit - 1)).toToken();
+            links.add(linkTo(methodOn(BookingController.class).getBookingsKeyset(accessId, accountId, bankApi,
+                nextCursor, limit)).withRel("next"));
+        }
+
+        return new Resources<>(bookingMapper.toBookingTOs(bookingEntities), links);
+    }
+
     @Operation(description = "Read account bookings search index", security = {
         @SecurityRequirement(name = "multibanking_auth", scopes = "openid")})
     @GetMapping("/index")
@@ -100,10 +144,24 @@ public class BookingController {
     @Operation(description = "Download bookings", security = {
         @SecurityRequirement(name = "multibanking_auth", scopes = "openid")})
     @GetMapping(path = "/download", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
-    public HttpEntity<String> downloadBookings(@PathVariable String accessId, @PathVariable String accountId) {
+    public HttpEntity<StreamingResponseBody> downloadBookings(@PathVariable String accessId,
+                                                              @PathVariable String accountId) {
         checkBankAccountExists(accessId, accountId);
 
-        String bookingsAsCSV = bookingService.getBookingsCsv(principal.getName(), accessId, accountId);
+        String userId = principal.getName();
+        BankApi bankApi = bookingService.getBankApi(accessId);
+
+        //rows are written on an async worker thread, the security context is propagated by spring security
+        StreamingResponseBody bookingsAsCSV = outputStream -> {
+            DetachedRequestAttributes requestAttributes = new DetachedRequestAttributes();
+            RequestContextHolder.setRequestAttributes(requestAttributes);
+            try {
+                bookingService.writeBookingsCsv(userId, accountId, bankApi, outputStream);
+            } finally {
+                requestAttributes.requestCompleted();
+                RequestContextHolder.resetRequestAttributes();
+            }
+        };
 
         return ResponseEntity.ok().body(bookingsAsCSV);
     }
@@ -0,0 +1,93 @@
+package de.adorsys.multibanking.web;
+
+import de.adorsys.multibanking.domain.BankAccessEntity;
+import de.adorsys.multibanking.domain.BankAccountEntity;
+import de.adorsys.multibanking.exception.ResourceNotFoundException;
+import de.adorsys.multibanking.pers.spi.repository.BankAccessRepositoryIf;
+import de.adorsys.multibanking.pers.spi.repository.BankAccountRepositoryIf;
+import de.adorsys.multibanking.service.SyncJob;
+import de.adorsys.multibanking.service.SyncJobService;
+import de.adorsys.multibanking.web.mapper.SyncJobMapper;
+import de.adorsys.multibanking.web.model.SyncJobTO;
+import io.micrometer.core.annotation.Timed;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.Resource;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.hateoas.mvc.ControllerLinkBuilder.linkTo;
+import static org.springframework.hateoas.mvc.ControllerLinkBuilder.methodOn;
+
+@Timed("sync-job")
+@Tag(name = "Sync job")
+@RequiredArgsConstructor
+@UserResource
+@RestController
+@RequestMapping(path = "api/v1/bankaccesses/{accessId}/accounts/{accountId}/sync-jobs")
+public class SyncJobController {
+
+    private final SyncJobMapper syncJobMapper;
+    private final SyncJobService syncJobService;
+    private final BankAccessRepositoryIf bankAccessRepository;
+    private final BankAccountRepositoryIf bankAccountRepository;
+    private final Principal principal;
+
+    @Operation(description = "Queue account sync", security = {
+        @SecurityRequirement(name = "multibanking_auth", scopes = "openid")})
+    @ApiResponse(responseCode = "202", description = "Sync job queued", content = {
+        @Content(schema = @Schema(implementation = SyncJobTO.class))
+    })
+    @PostMapping
+    public ResponseEntity<Resource<SyncJobTO>> createSyncJob(@PathVariable String accessId,
+                                                             @PathVariable String accountId) {
+        BankAccessEntity bankAccess = bankAccessRepository.findByUserIdAndId(principal.getName(), accessId)
+            .orElseThrow(() -> new ResourceNotFoundException(BankAccessEntity.class, accessId));
+
+        BankAccountEntity bankAccount = bankAccountRepository.findByUserIdAndId(principal.getName(), accountId)
+            .orElseThrow(() -> new ResourceNotFoundException(BankAccountEntity.class, accountId));
+
+        SyncJob syncJob = syncJobService.submitSyncJob(bankAccess, bankAccount);
+
+        Resource<SyncJobTO> resource = mapToResource(accessId, syncJob);
+        return ResponseEntity.accepted()
+            .location(linkTo(methodOn(SyncJobController.class).getSyncJob(accessId, accountId, syncJob.getId())).toUri())
+            .body(resource);
+    }
+
+    @Operation(description = "Read account sync job", security = {
+        @SecurityRequirement(name = "multibanking_auth", scopes = "openid")})
+    @GetMapping("/{jobId}")
+    public Resource<SyncJobTO> getSyncJob(@PathVariable String accessId, @PathVariable String accountId,
+                                          @PathVariable String jobId) {
+        SyncJob syncJob = syncJobService.getSyncJob(principal.getName(), accessId, accountId, jobId)
+            .orElseThrow(() -> new ResourceNotFoundException(SyncJob.class, jobId));
+
+        return mapToResource(accessId, syncJob);
+    }
+
+    private Resource<SyncJobTO> mapToResource(String accessId, SyncJob syncJob) {
+        List<Link> links = new ArrayList<>();
+        links.add(linkTo(methodOn(SyncJobController.class).getSyncJob(accessId, syncJob.getAccountId(),
+            syncJob.getId())).withSelfRel());
+        links.add(linkTo(methodOn(BankAccountController.class).getBankAccount(accessId,
+            syncJob.getAccountId())).withRel("bankAccount"));
+        if (syncJob.getStatus() == SyncJob.Status.AUTHORISATION_REQUIRED) {
+            links.add(linkTo(methodOn(ConsentAuthorisationController.class).getConsentAuthorisationStatus(syncJob.getConsentId(),
+                syncJob.getAuthorisationId())).withRel("consentAuthorisation"));
+            links.add(linkTo(methodOn(ConsentAuthorisationController.class).transactionAuthorisation(syncJob.getConsentId(),
+                syncJob.getAuthorisationId(), null)).withRel("transactionAuthorisation"));
+        }
+        return new Resource<>(syncJobMapper.toSyncJobTO(syncJob), links);
+    }
+}
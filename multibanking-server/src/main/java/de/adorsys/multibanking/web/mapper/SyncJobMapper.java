@@ -0,0 +1,12 @@
+package de.adorsys.multibanking.web.mapper;
+
+import de.adorsys.multibanking.service.SyncJob;
+import de.adorsys.multibanking.web.model.SyncJobTO;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring", uses = ConsentAuthorisationMapper.class)
+public interface SyncJobMapper {
+
+    SyncJobTO toSyncJobTO(SyncJob syncJob);
+
+}
@@ -0,0 +1,5 @@
+package de.adorsys.multibanking.web.model;
+
+public enum SyncJobStatusTO {
+    QUEUED, RUNNING, FINISHED, FAILED, AUTHORISATION_REQUIRED
+}
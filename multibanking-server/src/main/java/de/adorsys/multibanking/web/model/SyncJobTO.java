@@ -0,0 +1,28 @@
+package de.adorsys.multibanking.web.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Schema(name = "SyncJob", description = "Asynchronous account sync")
+@Data
+public class SyncJobTO {
+
+    @Schema(description = "Sync job ID")
+    private String id;
+    @Schema(description = "Bank account ID")
+    private String accountId;
+    @Schema(description = "Sync job status")
+    private SyncJobStatusTO status;
+    @Schema(description = "Date the sync job was queued")
+    private LocalDateTime createdDate;
+    @Schema(description = "Date the sync job was started")
+    private LocalDateTime startedDate;
+    @Schema(description = "Date the sync job was finished")
+    private LocalDateTime finishedDate;
+    @Schema(description = "Error message of a failed sync job")
+    private String errorMessage;
+    @Schema(description = "Conditional: consent authorisation required for the sync")
+    private UpdateAuthResponseTO authorisationResponse;
+}
@@ -0,0 +1,57 @@
+package de.adorsys.multibanking.service;
+
+import de.adorsys.multibanking.service.analytics.AnalyticsConfigStatusCache;
+import de.adorsys.multibanking.service.analytics.SmartAnalyticsIf;
+import de.adorsys.smartanalytics.api.config.ConfigStatus;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class AnalyticsConfigStatusCacheTest {
+
+    @Mock
+    private SmartAnalyticsIf smartAnalyticsService;
+
+    private AnalyticsConfigStatusCache analyticsConfigStatusCache;
+
+    @Before
+    public void setUp() {
+        analyticsConfigStatusCache = new AnalyticsConfigStatusCache(smartAnalyticsService);
+        ReflectionTestUtils.setField(analyticsConfigStatusCache, "ttlSeconds", 60L);
+    }
+
+    @Test
+    public void testConfigStatusCached() {
+        ConfigStatus configStatus = mock(ConfigStatus.class);
+        when(smartAnalyticsService.getAnalyticsConfigStatus()).thenReturn(configStatus);
+
+        assertThat(analyticsConfigStatusCache.getAnalyticsConfigStatus()).isSameAs(configStatus);
+        assertThat(analyticsConfigStatusCache.getAnalyticsConfigStatus()).isSameAs(configStatus);
+        verify(smartAnalyticsService, times(1)).getAnalyticsConfigStatus();
+    }
+
+    @Test
+    public void testStatusFetchedDuringInvalidateNotCached() {
+        ConfigStatus staleStatus = mock(ConfigStatus.class);
+        ConfigStatus uploadedStatus = mock(ConfigStatus.class);
+        when(smartAnalyticsService.getAnalyticsConfigStatus())
+            .thenAnswer(invocation -> {
+                //config upload while the status is fetched
+                analyticsConfigStatusCache.invalidate();
+                return staleStatus;
+            })
+            .thenReturn(uploadedStatus);
+
+        assertThat(analyticsConfigStatusCache.getAnalyticsConfigStatus()).isSameAs(staleStatus);
+        assertThat(analyticsConfigStatusCache.getAnalyticsConfigStatus()).isSameAs(uploadedStatus);
+        assertThat(analyticsConfigStatusCache.getAnalyticsConfigStatus()).isSameAs(uploadedStatus);
+        verify(smartAnalyticsService, times(2)).getAnalyticsConfigStatus();
+    }
+}
@@ -0,0 +1,66 @@
+package de.adorsys.multibanking.service;
+
+import de.adorsys.multibanking.domain.BankParameterDataEntity;
+import de.adorsys.multibanking.pers.spi.repository.BankParameterDataRepositoryIf;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class BankParameterDataServiceTest {
+
+    private static final String BANK_CODE = "76050101";
+
+    @InjectMocks
+    private BankParameterDataService bankParameterDataService;
+
+    @Mock
+    private BankParameterDataRepositoryIf bankParameterDataRepository;
+
+    @Test
+    public void testOlderBpdOfOtherVersionNotStored() {
+        LocalDateTime storedUpdateTime = LocalDateTime.now();
+        when(bankParameterDataRepository.findByBankCode(BANK_CODE))
+            .thenReturn(Optional.of(bankParameterData("42", storedUpdateTime)));
+
+        bankParameterDataService.store(BANK_CODE, "41", Collections.singletonMap("BPA.version", "41"),
+            storedUpdateTime.minusMinutes(1));
+
+        verify(bankParameterDataRepository, never()).save(any());
+    }
+
+    @Test
+    public void testNewerBpdStored() {
+        LocalDateTime storedUpdateTime = LocalDateTime.now().minusMinutes(1);
+        when(bankParameterDataRepository.findByBankCode(BANK_CODE))
+            .thenReturn(Optional.of(bankParameterData("42", storedUpdateTime)));
+
+        LocalDateTime updateTime = LocalDateTime.now();
+        bankParameterDataService.store(BANK_CODE, "43", Collections.singletonMap("BPA.version", "43"), updateTime);
+
+        ArgumentCaptor<BankParameterDataEntity> storedData = ArgumentCaptor.forClass(BankParameterDataEntity.class);
+        verify(bankParameterDataRepository).save(storedData.capture());
+        assertThat(storedData.getValue().getBpdVersion()).isEqualTo("43");
+        assertThat(storedData.getValue().getUpdateTime()).isEqualTo(updateTime);
+    }
+
+    private BankParameterDataEntity bankParameterData(String bpdVersion, LocalDateTime updateTime) {
+        BankParameterDataEntity bankParameterData = new BankParameterDataEntity();
+        bankParameterData.setId(BANK_CODE);
+        bankParameterData.setBpdVersion(bpdVersion);
+        bankParameterData.setBpd(Collections.singletonMap("BPA.version", bpdVersion));
+        bankParameterData.setUpdateTime(updateTime);
+        return bankParameterData;
+    }
+}
@@ -2,17 +2,60 @@ package de.adorsys.multibanking.service;
 
 import de.adorsys.multibanking.bg.BankingGatewayAdapter;
 import de.adorsys.multibanking.bg.PaginationResolver;
+import de.adorsys.multibanking.domain.BankAccessEntity;
+import de.adorsys.multibanking.domain.BankAccount;
 import de.adorsys.multibanking.domain.BankAccountEntity;
 import de.adorsys.multibanking.domain.BookingEntity;
+import de.adorsys.multibanking.domain.BankApi;
+import de.adorsys.multibanking.domain.Booking;
+import de.adorsys.multibanking.domain.ConsentEntity;
+import de.adorsys.multibanking.domain.ScaStatus;
+import de.adorsys.multibanking.domain.request.TransactionRequest;
+import de.adorsys.multibanking.domain.response.TransactionsBatchResponse;
 import de.adorsys.multibanking.domain.response.TransactionsResponse;
+import de.adorsys.multibanking.domain.spi.OnlineBankingService;
+import de.adorsys.multibanking.domain.transaction.LoadTransactions;
+import de.adorsys.multibanking.metrics.MetricsCollector;
+import de.adorsys.multibanking.pers.spi.repository.BankAccessRepositoryIf;
+import de.adorsys.multibanking.pers.spi.repository.BankAccountRepositoryIf;
+import de.adorsys.multibanking.pers.spi.repository.BookingRepositoryIf;
+import de.adorsys.multibanking.pers.spi.repository.ConsentRepositoryIf;
+import de.adorsys.multibanking.service.analytics.AnalyticsConfigStatusCache;
+import de.adorsys.smartanalytics.api.AnalyticsResult;
+import de.adorsys.smartanalytics.api.BookingGroup;
+import de.adorsys.smartanalytics.api.BookingPeriod;
+import de.adorsys.smartanalytics.api.ExecutedBooking;
+import de.adorsys.smartanalytics.api.config.ConfigStatus;
 import org.apache.commons.io.IOUtils;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
+import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
 public class BookingServiceTest {
@@ -22,12 +65,223 @@ public class BookingServiceTest {
     @InjectMocks
     private PaginationResolver bankingGatewayAdapter;
 
+    @Mock
+    private BookingRepositoryIf bookingRepository;
+
+    @Mock
+    private AnalyticsConfigStatusCache analyticsConfigStatusCache;
+
+    @Mock
+    private OnlineBankingService onlineBankingService;
+
+    @Mock
+    private OnlineBankingServiceProducer bankingServiceProducer;
+
+    @Mock
+    private ConsentService consentService;
+
+    @Mock
+    private BankAccountRepositoryIf bankAccountRepository;
+
+    @Mock
+    private BankAccessRepositoryIf bankAccessRepository;
+
+    @Mock
+    private ConsentRepositoryIf consentRepository;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private BankService bankService;
+
+    @Mock
+    private MetricsCollector metricsCollector;
+
+    @Mock
+    private SyncNode syncNode;
+
     @Test
     public void testMerge() throws Exception {
         TransactionsResponse transactionsResponse = bankingGatewayAdapter.jsonStringToLoadBookingsResponse(
             IOUtils.toString(BookingServiceTest.class.getResourceAsStream("/transactions.json")), null
         );
         List<BookingEntity> newBookingEntities = bookingService.mapBookings(new BankAccountEntity(), transactionsResponse.getBookings());
-        bookingService.mergeBookings(Collections.emptyList(), newBookingEntities);
+        long distinctExternalIds = newBookingEntities.stream()
+            .map(BookingEntity::getExternalId)
+            .distinct()
+            .count();
+
+        List<BookingEntity> insertedBookings = bookingService.deltaBookings(Collections.emptyList(),
+            newBookingEntities);
+        assertThat(insertedBookings).hasSize((int) distinctExternalIds);
+
+        BookingEntity dbBooking = newBookingEntities.get(0);
+        insertedBookings = bookingService.deltaBookings(Collections.singletonList(dbBooking), newBookingEntities);
+        assertThat(insertedBookings).hasSize((int) distinctExternalIds - 1);
+        assertThat(insertedBookings).extracting(BookingEntity::getExternalId).doesNotContain(dbBooking.getExternalId());
+    }
+
+    @Test(timeout = 5000)
+    public void testSaveAnalyticsMapsBookingIds() {
+        int bookingCount = 50_000;
+        List<BookingEntity> bookingEntities = new ArrayList<>(bookingCount);
+        List<ExecutedBooking> executedBookings = new ArrayList<>(bookingCount);
+        for (int i = 0; i < bookingCount; i++) {
+            BookingEntity bookingEntity = new BookingEntity();
+            bookingEntity.setId("id-" + i);
+            bookingEntity.setExternalId("external-" + i);
+            bookingEntities.add(bookingEntity);
+            executedBookings.add(new ExecutedBooking("external-" + (bookingCount - 1 - i), LocalDate.now(), true));
+        }
+
+        BookingPeriod bookingPeriod = new BookingPeriod();
+        bookingPeriod.setBookings(executedBookings);
+        BookingGroup bookingGroup = new BookingGroup();
+        bookingGroup.setBookingPeriods(Collections.singletonList(bookingPeriod));
+        AnalyticsResult analyticsResult = new AnalyticsResult();
+        analyticsResult.setBookingGroups(Collections.singletonList(bookingGroup));
+
+        bookingService.saveAnalytics(analyticsResult, new BankAccessEntity(), new BankAccountEntity(),
+            bookingEntities);
+
+        assertThat(executedBookings.get(0).getBookingId()).isEqualTo("id-" + (bookingCount - 1));
+        assertThat(executedBookings).extracting(ExecutedBooking::getBookingId).allMatch(id -> id.startsWith("id-"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testWriteBookingsCsv() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<BookingEntity> consumer = invocation.getArgument(3);
+            for (int i = 0; i < 2; i++) {
+                BookingEntity bookingEntity = new BookingEntity();
+                bookingEntity.setBookingDate(LocalDate.of(2020, 1, i + 1));
+                bookingEntity.setAmount(BigDecimal.TEN);
+                bookingEntity.setUsage("usage-" + i);
+                consumer.accept(bookingEntity);
+            }
+            return null;
+        }).when(bookingRepository).streamByUserIdAndAccountIdAndBankApi(eq("user"), eq("account"),
+            eq(BankApi.HBCI), any(Consumer.class));
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        bookingService.writeBookingsCsv("user", "account", BankApi.HBCI, outputStream);
+
+        assertThat(outputStream.toString(StandardCharsets.ISO_8859_1.name())).isEqualTo(
+            "2020-01-01;;;;;10;;usage-0\n" +
+            "2020-01-02;;;;;10;;usage-1\n");
+    }
+
+    @Test
+    public void testProcessBookingsWithoutChangesReturnsNoBookings() {
+        BankAccessEntity bankAccess = bankAccess();
+        BankAccountEntity bankAccount = bankAccount();
+        BookingEntity knownBooking = bookingEntity("2", LocalDate.of(2020, 1, 2));
+
+        when(onlineBankingService.bankApi()).thenReturn(BankApi.HBCI);
+        when(analyticsConfigStatusCache.getAnalyticsConfigStatus()).thenReturn(mock(ConfigStatus.class));
+        when(bookingRepository.findByUserIdAndAccountIdAndBankApiAndExternalIdIn("user", "account", BankApi.HBCI,
+            Collections.singleton("2"))).thenReturn(Collections.singletonList(knownBooking));
+
+        List<BookingEntity> result = bookingService.processBookings(onlineBankingService, bankAccess, bankAccount,
+            transactionsResponse(booking("2", LocalDate.of(2020, 1, 2))));
+
+        assertThat(result).isEmpty();
+        verify(bookingRepository, never()).findByUserIdAndAccountIdAndBankApi(any(), any(), any());
+    }
+
+    @Test
+    public void testProcessBookingsReturnsInsertedBookingsOnly() {
+        BankAccessEntity bankAccess = bankAccess();
+        BankAccountEntity bankAccount = bankAccount();
+        BookingEntity knownBooking = bookingEntity("2", LocalDate.of(2020, 1, 2));
+
+        when(onlineBankingService.bankApi()).thenReturn(BankApi.HBCI);
+        when(bookingRepository.findByUserIdAndAccountIdAndBankApiAndExternalIdIn("user", "account", BankApi.HBCI,
+            new HashSet<>(Arrays.asList("2", "3", "4")))).thenReturn(Collections.singletonList(knownBooking));
+
+        List<BookingEntity> result = bookingService.processBookings(onlineBankingService, bankAccess, bankAccount,
+            transactionsResponse(booking("2", LocalDate.of(2020, 1, 2)), booking("3", LocalDate.of(2020, 1, 3)),
+                booking("4", LocalDate.of(2020, 1, 4))));
+
+        //latest booking first
+        assertThat(result).extracting(BookingEntity::getExternalId).containsExactly("4", "3");
+        verify(bookingRepository, never()).findByUserIdAndAccountIdAndBankApi(any(), any(), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSyncBookingsOfAccessLoadsNotLoadedAccountsOnTheirOwn() {
+        ReflectionTestUtils.setField(bookingService, "consentRepository", consentRepository);
+        BankAccessEntity bankAccess = bankAccess();
+        bankAccess.setBankCode("bank");
+        bankAccess.setConsentId("consent");
+        BankAccountEntity loadedAccount = bankAccount();
+        BankAccountEntity notLoadedAccount = bankAccount();
+        notLoadedAccount.setId("other-account");
+
+        TransactionsBatchResponse batchResponse = new TransactionsBatchResponse();
+        batchResponse.getTransactionsResponses().put("account", transactionsResponse());
+        batchResponse.getNotLoadedAccountIds().add("other-account");
+
+        when(bankingServiceProducer.getBankingService("bank")).thenReturn(onlineBankingService);
+        when(onlineBankingService.bankApi()).thenReturn(BankApi.HBCI);
+        when(consentService.validateAndGetConsent(onlineBankingService, "consent", ScaStatus.FINALISED))
+            .thenReturn(new ConsentEntity());
+        when(analyticsConfigStatusCache.getAnalyticsConfigStatus()).thenReturn(mock(ConfigStatus.class));
+        when(onlineBankingService.loadTransactions(anyMap())).thenReturn(batchResponse);
+        when(onlineBankingService.loadTransactions(any(TransactionRequest.class))).thenReturn(transactionsResponse());
+
+        Map<String, List<BookingEntity>> result = bookingService.syncBookings(bankAccess,
+            Arrays.asList(loadedAccount, notLoadedAccount));
+
+        assertThat(result).containsOnlyKeys("account", "other-account");
+        ArgumentCaptor<Map<String, TransactionRequest<LoadTransactions>>> batchRequests =
+            ArgumentCaptor.forClass(Map.class);
+        verify(onlineBankingService).loadTransactions(batchRequests.capture());
+        assertThat(batchRequests.getValue()).containsOnlyKeys("account", "other-account");
+        ArgumentCaptor<TransactionRequest<LoadTransactions>> singleRequest =
+            ArgumentCaptor.forClass(TransactionRequest.class);
+        verify(onlineBankingService).loadTransactions(singleRequest.capture());
+        assertThat(singleRequest.getValue().getTransaction().getPsuAccount()).isSameAs(notLoadedAccount);
+        assertThat(loadedAccount.getSyncStatus()).isEqualTo(BankAccount.SyncStatus.READY);
+        assertThat(notLoadedAccount.getSyncStatus()).isEqualTo(BankAccount.SyncStatus.READY);
+        verify(bankAccountRepository).save(loadedAccount);
+        verify(bankAccountRepository).save(notLoadedAccount);
+    }
+
+    private BankAccessEntity bankAccess() {
+        BankAccessEntity bankAccess = new BankAccessEntity();
+        bankAccess.setUserId("user");
+        return bankAccess;
+    }
+
+    private BankAccountEntity bankAccount() {
+        BankAccountEntity bankAccount = new BankAccountEntity();
+        bankAccount.setId("account");
+        bankAccount.setUserId("user");
+        return bankAccount;
+    }
+
+    private TransactionsResponse transactionsResponse(Booking... bookings) {
+        return TransactionsResponse.builder()
+            .bookings(Arrays.asList(bookings))
+            .build();
+    }
+
+    private Booking booking(String externalId, LocalDate bookingDate) {
+        Booking booking = new Booking();
+        booking.setExternalId(externalId);
+        booking.setBookingDate(bookingDate);
+        return booking;
+    }
+
+    private BookingEntity bookingEntity(String externalId, LocalDate bookingDate) {
+        BookingEntity bookingEntity = new BookingEntity();
+        bookingEntity.setId("id-" + externalId);
+        bookingEntity.setExternalId(externalId);
+        bookingEntity.setBookingDate(bookingDate);
+        return bookingEntity;
     }
 }
@@ -0,0 +1,108 @@
+package de.adorsys.multibanking.service;
+
+import de.adorsys.multibanking.domain.BookingEntity;
+import org.junit.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SingleFlightSyncRegistryTest {
+
+    private final SingleFlightSyncRegistry syncRegistry = new SingleFlightSyncRegistry();
+
+    @Test
+    public void testConcurrentSyncsShareResult() throws Exception {
+        AtomicInteger syncCount = new AtomicInteger();
+        CountDownLatch syncStarted = new CountDownLatch(1);
+        CountDownLatch releaseSync = new CountDownLatch(1);
+        List<BookingEntity> bookings = Collections.singletonList(new BookingEntity());
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        Future<List<BookingEntity>> leader = executor.submit(() ->
+            syncRegistry.sync("accountId", () -> {
+                syncCount.incrementAndGet();
+                syncStarted.countDown();
+                await(releaseSync);
+                return bookings;
+            }));
+
+        assertThat(syncStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(syncRegistry.isRunning("accountId")).isTrue();
+
+        AtomicReference<Thread> followerThread = new AtomicReference<>();
+        Future<List<BookingEntity>> follower = executor.submit(() -> {
+            followerThread.set(Thread.currentThread());
+            return syncRegistry.sync("accountId", () -> {
+                syncCount.incrementAndGet();
+                return Collections.emptyList();
+            });
+        });
+
+        //release the running sync once the follower waits for it
+        while (followerThread.get() == null || followerThread.get().getState() != Thread.State.WAITING) {
+            Thread.sleep(10);
+        }
+        releaseSync.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isSameAs(bookings);
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isSameAs(bookings);
+        executor.shutdown();
+        assertThat(syncCount.get()).isEqualTo(1);
+        assertThat(syncRegistry.isRunning("accountId")).isFalse();
+    }
+
+    @Test
+    public void testSyncAllAwaitsRunningSyncOfAccount() throws Exception {
+        CountDownLatch syncStarted = new CountDownLatch(1);
+        CountDownLatch releaseSync = new CountDownLatch(1);
+        List<BookingEntity> runningBookings = Collections.singletonList(new BookingEntity());
+        List<BookingEntity> bulkBookings = Collections.singletonList(new BookingEntity());
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<List<BookingEntity>> runningSync = executor.submit(() ->
+            syncRegistry.sync("account1", () -> {
+                syncStarted.countDown();
+                await(releaseSync);
+                return runningBookings;
+            }));
+        assertThat(syncStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        AtomicReference<Set<String>> bulkAccountIds = new AtomicReference<>();
+        Map<String, List<BookingEntity>> result = syncRegistry.syncAll(Arrays.asList("account1", "account2"),
+            accountIds -> {
+                bulkAccountIds.set(new HashSet<>(accountIds));
+                assertThat(syncRegistry.isRunning("account2")).isTrue();
+                releaseSync.countDown();
+                return Collections.singletonMap("account2", bulkBookings);
+            });
+
+        assertThat(bulkAccountIds.get()).containsExactly("account2");
+        assertThat(result).containsEntry("account1", runningBookings).containsEntry("account2", bulkBookings);
+        assertThat(runningSync.get(5, TimeUnit.SECONDS)).isSameAs(runningBookings);
+        executor.shutdown();
+        assertThat(syncRegistry.isRunning("account1")).isFalse();
+        assertThat(syncRegistry.isRunning("account2")).isFalse();
+    }
+
+    @Test
+    public void testSyncFailurePropagated() {
+        assertThatThrownBy(() -> syncRegistry.sync("accountId", () -> {
+            throw new IllegalStateException("bank not available");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(syncRegistry.isRunning("accountId")).isFalse();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package de.adorsys.multibanking.service;
+
+import de.adorsys.multibanking.domain.BankAccessEntity;
+import de.adorsys.multibanking.domain.BankAccount;
+import de.adorsys.multibanking.domain.BankApi;
+import de.adorsys.multibanking.domain.BankAccountEntity;
+import de.adorsys.multibanking.domain.ScaApproach;
+import de.adorsys.multibanking.domain.ScaStatus;
+import de.adorsys.multibanking.domain.response.UpdateAuthResponse;
+import de.adorsys.multibanking.exception.SyncInProgressException;
+import de.adorsys.multibanking.exception.TransactionAuthorisationRequiredException;
+import de.adorsys.multibanking.pers.spi.repository.BankAccountRepositoryIf;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class SyncJobServiceTest {
+
+    @Mock
+    private BookingService bookingService;
+    @Mock
+    private BankAccountRepositoryIf bankAccountRepository;
+
+    private ThreadPoolTaskExecutor syncJobExecutor;
+    private SyncJobService syncJobService;
+
+    @Before
+    public void setUp() {
+        syncJobExecutor = new ThreadPoolTaskExecutor();
+        syncJobExecutor.setCorePoolSize(2);
+        syncJobExecutor.initialize();
+
+        syncJobService = new SyncJobService(bookingService, bankAccountRepository, new SingleFlightSyncRegistry(),
+            new SyncNode("node"), syncJobExecutor);
+        ReflectionTestUtils.setField(syncJobService, "maxJobsPerBank", 1);
+        ReflectionTestUtils.setField(syncJobService, "maxQueuedJobs", 10);
+        ReflectionTestUtils.setField(syncJobService, "staleMinutes", 60);
+    }
+
+    @After
+    public void tearDown() {
+        syncJobExecutor.shutdown();
+    }
+
+    @Test
+    public void testSyncJobFinished() throws Exception {
+        BankAccessEntity bankAccess = createBankAccess();
+        BankAccountEntity bankAccount = createBankAccount();
+
+        SyncJob syncJob = syncJobService.submitSyncJob(bankAccess, bankAccount);
+        assertThat(syncJob.getId()).isNotNull();
+
+        SyncJob finishedJob = awaitSyncJob(bankAccount, syncJob);
+        assertThat(finishedJob.getStatus()).isEqualTo(SyncJob.Status.FINISHED);
+        verify(bookingService).syncBookings(eq(ScaStatus.FINALISED), isNull(), eq(bankAccess), eq(bankAccount),
+            isNull());
+        verify(bankAccountRepository).startSync(bankAccount.getId(), "node");
+    }
+
+    @Test
+    public void testSyncJobAuthorisationRequired() throws Exception {
+        UpdateAuthResponse updateAuthResponse = new UpdateAuthResponse(BankApi.HBCI, ScaApproach.EMBEDDED,
+            ScaStatus.PSUAUTHENTICATED);
+        when(bookingService.syncBookings(any(), any(), any(), any(), any()))
+            .thenThrow(new TransactionAuthorisationRequiredException(updateAuthResponse, "consentId",
+                "authorisationId"));
+
+        BankAccountEntity bankAccount = createBankAccount();
+        SyncJob syncJob = awaitSyncJob(bankAccount, syncJobService.submitSyncJob(createBankAccess(), bankAccount));
+
+        assertThat(syncJob.getStatus()).isEqualTo(SyncJob.Status.AUTHORISATION_REQUIRED);
+        assertThat(syncJob.getConsentId()).isEqualTo("consentId");
+        assertThat(syncJob.getAuthorisationId()).isEqualTo("authorisationId");
+    }
+
+    @Test(expected = SyncInProgressException.class)
+    public void testSyncInProgress() {
+        when(bankAccountRepository.getSyncStatus(anyString())).thenReturn(BankAccount.SyncStatus.SYNC);
+
+        syncJobService.submitSyncJob(createBankAccess(), createBankAccount());
+    }
+
+    @Test
+    public void testOnlyOwnAndStaleSyncStatusResetOnStartup() {
+        LocalDateTime startTime = LocalDateTime.now();
+        syncJobService.resetStaleSyncStatus();
+
+        ArgumentCaptor<LocalDateTime> startedBefore = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(bankAccountRepository).resetStaleSyncStatus(eq("node"), startedBefore.capture());
+        assertThat(startedBefore.getValue()).isBetween(startTime.minusMinutes(60),
+            LocalDateTime.now().minusMinutes(60));
+    }
+
+    @Test
+    public void testSyncJobOfOtherAccessNotFound() throws Exception {
+        BankAccountEntity bankAccount = createBankAccount();
+        SyncJob syncJob = syncJobService.submitSyncJob(createBankAccess(), bankAccount);
+
+        assertThat(syncJobService.getSyncJob("userId", "otherAccessId", bankAccount.getId(), syncJob.getId()))
+            .isEmpty();
+        awaitSyncJob(bankAccount, syncJob);
+    }
+
+    private SyncJob awaitSyncJob(BankAccountEntity bankAccount, SyncJob syncJob) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            SyncJob currentJob = syncJobService.getSyncJob("userId", syncJob.getAccessId(), bankAccount.getId(),
+                syncJob.getId())
+                .orElseThrow(IllegalStateException::new);
+            if (currentJob.isDone()) {
+                return currentJob;
+            }
+            Thread.sleep(50);
+        }
+        throw new IllegalStateException("sync job not finished");
+    }
+
+    private BankAccessEntity createBankAccess() {
+        BankAccessEntity bankAccess = new BankAccessEntity();
+        bankAccess.setId(UUID.randomUUID().toString());
+        bankAccess.setUserId("userId");
+        bankAccess.setBankCode("76090500");
+        return bankAccess;
+    }
+
+    private BankAccountEntity createBankAccount() {
+        BankAccountEntity bankAccount = new BankAccountEntity();
+        bankAccount.setId(UUID.randomUUID().toString());
+        bankAccount.setUserId("userId");
+        return bankAccount;
+    }
+}
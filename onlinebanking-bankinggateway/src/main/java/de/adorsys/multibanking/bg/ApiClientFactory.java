@@ -1,8 +1,10 @@
 package de.adorsys.multibanking.bg;
 
+import com.google.gson.Gson;
 import com.google.gson.TypeAdapter;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
+import com.squareup.okhttp.ConnectionPool;
 import com.squareup.okhttp.OkHttpClient;
 import com.squareup.okhttp.logging.HttpLoggingInterceptor;
 import de.adorsys.multibanking.banking_gateway_b2c.ApiClient;
@@ -19,7 +21,9 @@ import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Date;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import static de.adorsys.multibanking.xs2a_adapter.JSON.createGson;
@@ -28,6 +32,18 @@ import static de.adorsys.multibanking.xs2a_adapter.JSON.createGson;
 @UtilityClass
 public class ApiClientFactory {
 
+    private static final int MAX_IDLE_CONNECTIONS = 20;
+    private static final long KEEP_ALIVE_DURATION_MS = TimeUnit.MINUTES.toMillis(5);
+
+    private static final Map<String, OkHttpClient> HTTP_CLIENTS = new ConcurrentHashMap<>();
+    private static final Gson GSON = createGson()
+        .registerTypeAdapter(Date.class, new JSON.DateTypeAdapter())
+        .registerTypeAdapter(java.sql.Date.class, new JSON.SqlDateTypeAdapter())
+        .registerTypeAdapter(OffsetDateTime.class, new JSON.OffsetDateTimeTypeAdapter())
+        .registerTypeAdapter(LocalDate.class, new LocalDateTypeAdapter())
+        .registerTypeAdapter(byte[].class, new ByteArrayAdapter())
+        .create();
+
     public static AccountInformationServiceAisApi accountInformationServiceAisApi(String baseUrl,
                                                                                   BgSessionData bgSessionData) {
         return accountInformationServiceAisApi(baseUrl, bgSessionData.getAccessToken());
@@ -48,11 +64,7 @@ public class ApiClientFactory {
     private static de.adorsys.multibanking.xs2a_adapter.ApiClient apiClientXs2aAdapter(String baseUrl,
                                                                                        String acceptHeader,
                                                                                        String contentTypeHeader) {
-        OkHttpClient client = new OkHttpClient();
-        client.setReadTimeout(600, TimeUnit.SECONDS);
-        client.interceptors().add(
-            new HttpLoggingInterceptor(log::debug).setLevel(HttpLoggingInterceptor.Level.HEADERS)
-        );
+        OkHttpClient client = httpClient(baseUrl);
 
         de.adorsys.multibanking.xs2a_adapter.ApiClient apiClient =
             new de.adorsys.multibanking.xs2a_adapter.ApiClient() {
@@ -73,13 +85,7 @@ public class ApiClientFactory {
         apiClient.setHttpClient(client);
         apiClient.setBasePath(baseUrl);
 
-        apiClient.getJSON().setGson(createGson()
-            .registerTypeAdapter(Date.class, new JSON.DateTypeAdapter())
-            .registerTypeAdapter(java.sql.Date.class, new JSON.SqlDateTypeAdapter())
-            .registerTypeAdapter(OffsetDateTime.class, new JSON.OffsetDateTimeTypeAdapter())
-            .registerTypeAdapter(LocalDate.class, new LocalDateTypeAdapter())
-            .registerTypeAdapter(byte[].class, new ByteArrayAdapter())
-            .create());
+        apiClient.getJSON().setGson(GSON);
 
         return apiClient;
     }
@@ -103,12 +109,7 @@ public class ApiClientFactory {
     }
 
     private static ApiClient apiClientBankingGateway(String baseUrl, String acceptHeader, String contentTypeHeader) {
-        OkHttpClient client = new OkHttpClient();
-        client.setReadTimeout(600, TimeUnit.SECONDS);
-
-        client.interceptors().add(
-            new HttpLoggingInterceptor(log::debug).setLevel(HttpLoggingInterceptor.Level.HEADERS)
-        );
+        OkHttpClient client = httpClient(baseUrl);
 
         ApiClient apiClient = new ApiClient() {
             @Override
@@ -128,17 +129,27 @@ public class ApiClientFactory {
         apiClient.setHttpClient(client);
         apiClient.setBasePath(baseUrl);
 
-        apiClient.getJSON().setGson(createGson()
-            .registerTypeAdapter(Date.class, new JSON.DateTypeAdapter())
-            .registerTypeAdapter(java.sql.Date.class, new JSON.SqlDateTypeAdapter())
-            .registerTypeAdapter(OffsetDateTime.class, new JSON.OffsetDateTimeTypeAdapter())
-            .registerTypeAdapter(LocalDate.class, new LocalDateTypeAdapter())
-            .registerTypeAdapter(byte[].class, new ByteArrayAdapter())
-            .create());
+        apiClient.getJSON().setGson(GSON);
 
         return apiClient;
     }
 
+    /**
+     * Per call client sharing connection pool and dispatcher of the base url client, so connections to the gateway
+     * are reused. Interceptors added to the returned client don't affect other calls.
+     */
+    private static OkHttpClient httpClient(String baseUrl) {
+        return HTTP_CLIENTS.computeIfAbsent(baseUrl, url -> {
+            OkHttpClient client = new OkHttpClient();
+            client.setConnectionPool(new ConnectionPool(MAX_IDLE_CONNECTIONS, KEEP_ALIVE_DURATION_MS));
+            client.setReadTimeout(600, TimeUnit.SECONDS);
+            client.interceptors().add(
+                new HttpLoggingInterceptor(log::debug).setLevel(HttpLoggingInterceptor.Level.HEADERS)
+            );
+            return client;
+        }).clone();
+    }
+
     private static class ByteArrayAdapter extends TypeAdapter<byte[]> {
 
         @Override
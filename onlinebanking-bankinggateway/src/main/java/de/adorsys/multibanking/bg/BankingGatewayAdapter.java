@@ -1,6 +1,8 @@
 package de.adorsys.multibanking.bg;
 
 import com.squareup.okhttp.Call;
+import com.squareup.okhttp.Response;
+import com.squareup.okhttp.ResponseBody;
 import de.adorsys.multibanking.domain.BankAccount;
 import de.adorsys.multibanking.domain.BankApi;
 import de.adorsys.multibanking.domain.BankApiUser;
@@ -10,9 +12,9 @@ import de.adorsys.multibanking.domain.response.*;
 import de.adorsys.multibanking.domain.spi.OnlineBankingService;
 import de.adorsys.multibanking.domain.spi.StrongCustomerAuthorisable;
 import de.adorsys.multibanking.domain.transaction.*;
+import de.adorsys.multibanking.domain.utils.AccountResourceIdCache;
 import de.adorsys.multibanking.mapper.TransactionsParser;
 import de.adorsys.multibanking.xs2a_adapter.ApiException;
-import de.adorsys.multibanking.xs2a_adapter.ApiResponse;
 import de.adorsys.multibanking.xs2a_adapter.api.AccountInformationServiceAisApi;
 import de.adorsys.multibanking.xs2a_adapter.model.AccountDetails;
 import de.adorsys.multibanking.xs2a_adapter.model.AccountList;
@@ -22,26 +24,58 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import static de.adorsys.multibanking.bg.ApiClientFactory.accountInformationServiceAisApi;
+import static de.adorsys.multibanking.bg.PaginationResolver.executeCall;
 import static de.adorsys.multibanking.domain.BankApi.XS2A;
 import static de.adorsys.multibanking.domain.exception.MultibankingError.*;
 
 @Slf4j
 public class BankingGatewayAdapter implements OnlineBankingService {
 
+    private static final long ACCOUNT_RESOURCE_IDS_LIFETIME_MS = TimeUnit.HOURS.toMillis(1);
+    private static final long UNKNOWN_IBAN_LIFETIME_MS = TimeUnit.MINUTES.toMillis(5);
+    private static final int AIS_CALL_THREADS = 8;
+    private static final int AIS_CALL_QUEUE_SIZE = 64;
+
     private final BankingGatewayScaHandler scaHandler;
     private final String xs2aAdapterBaseUrl;
     private final PaginationResolver paginationResolver;
+    private final AccountResourceIdCache accountResourceIdCache = new AccountResourceIdCache(ACCOUNT_RESOURCE_IDS_LIFETIME_MS,
+        UNKNOWN_IBAN_LIFETIME_MS);
 
     private BankingGatewayMapper bankingGatewayMapper = new BankingGatewayMapperImpl();
 
     public BankingGatewayAdapter(String bankingGatewayBaseUrl, String xs2aAdapterBaseUrl) {
         this.scaHandler = new BankingGatewayScaHandler(bankingGatewayBaseUrl);
-        this.paginationResolver = new PaginationResolver(xs2aAdapterBaseUrl);
+        this.paginationResolver = new PaginationResolver(xs2aAdapterBaseUrl, createAisCallExecutor());
         this.xs2aAdapterBaseUrl = xs2aAdapterBaseUrl;
     }
 
+    /**
+     * Bounded pool for the ais calls running ahead of the transactions call, calls beyond the queue run in the caller
+     * thread. Idle threads end, the daemon threads never keep the application alive.
+     */
+    private static ExecutorService createAisCallExecutor() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "xs2a-ais-call-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(AIS_CALL_THREADS, AIS_CALL_THREADS, 60, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(AIS_CALL_QUEUE_SIZE), threadFactory, new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
     @Override
     public BankApi bankApi() {
         return XS2A;
@@ -133,32 +167,27 @@ public class BankingGatewayAdapter implements OnlineBankingService {
                 null, withBalance, null, null, null, null, null, null, null, null, null, null,
                 null, null, null, null, null, null, null);
 
-            ApiResponse<Object> apiResponse = aisApi.getApiClient().execute(aisCall, String.class);
-            String contentTypeKey = apiResponse.getHeaders().keySet().stream()
-                .filter(header -> header.toLowerCase().contains("content-type"))
-                .findFirst()
+            PaginationResolver.PaginationNextCallParameters nextCallParams = PaginationResolver.PaginationNextCallParameters.builder()
+                .bgSessionData(bgSessionData)
+                .resourceId(resourceId)
+                .consentId(consentId)
+                .bankCode(bankCode)
+                .dateFrom(dateFrom)
+                .dateTo(dateTo)
+                .withBalance(withBalance)
+                .build();
+            Response response = executeCall(aisCall);
+            String contentType = Optional.ofNullable(response.header("Content-Type"))
                 .orElse("");
 
-            String contentType = Optional.ofNullable(apiResponse.getHeaders().get(contentTypeKey))
-                .map(list -> list.get(0))
-                .orElse("");
-            String textData = (String) apiResponse.getData();
-
-            if (contentType.toLowerCase().contains("application/xml")) {
-                return TransactionsParser.camtStringToLoadBookingsResponse(textData);
-            } else if (contentType.toLowerCase().contains("text/plain")) {
-                return TransactionsParser.mt940StringToLoadBookingsResponse(textData);
-            } else {
-                PaginationResolver.PaginationNextCallParameters nextCallParams = PaginationResolver.PaginationNextCallParameters.builder()
-                    .bgSessionData(bgSessionData)
-                    .resourceId(resourceId)
-                    .consentId(consentId)
-                    .bankCode(bankCode)
-                    .dateFrom(dateFrom)
-                    .dateTo(dateTo)
-                    .withBalance(withBalance)
-                    .build();
-                return paginationResolver.jsonStringToLoadBookingsResponse(textData, nextCallParams);
+            try (ResponseBody responseBody = response.body()) {
+                if (contentType.toLowerCase().contains("application/xml")) {
+                    return TransactionsParser.camtStringToLoadBookingsResponse(responseBody.string());
+                } else if (contentType.toLowerCase().contains("text/plain")) {
+                    return TransactionsParser.mt940StringToLoadBookingsResponse(responseBody.string());
+                } else {
+                    return paginationResolver.jsonStreamToLoadBookingsResponse(responseBody.charStream(), nextCallParams);
+                }
             }
         } catch (ApiException e) {
             throw handeAisApiException(e);
@@ -179,18 +208,17 @@ public class BankingGatewayAdapter implements OnlineBankingService {
     }
 
     private String getAccountResourceId(BgSessionData bgSessionData, String iban, String bankCode, String consentId) {
-        try {
-            AccountList accountList = getAccountList(bgSessionData, bankCode, consentId);
-
-            return accountList.getAccounts()
-                .stream()
-                .filter(accountDetails -> accountDetails.getIban().equals(iban))
-                .findAny()
-                .map(AccountDetails::getResourceId)
-                .orElseThrow(() -> new MultibankingException(INVALID_ACCOUNT_REFERENCE));
-        } catch (ApiException e) {
-            throw handeAisApiException(e);
-        }
+        return accountResourceIdCache.getResourceId(consentId, iban, () -> {
+            try {
+                return getAccountList(bgSessionData, bankCode, consentId).getAccounts()
+                    .stream()
+                    .filter(accountDetails -> accountDetails.getIban() != null && accountDetails.getResourceId() != null)
+                    .collect(Collectors.toMap(AccountDetails::getIban, AccountDetails::getResourceId,
+                        (resourceId, duplicateResourceId) -> resourceId));
+            } catch (ApiException e) {
+                throw handeAisApiException(e);
+            }
+        }).orElseThrow(() -> new MultibankingException(INVALID_ACCOUNT_REFERENCE));
     }
 
     @Override
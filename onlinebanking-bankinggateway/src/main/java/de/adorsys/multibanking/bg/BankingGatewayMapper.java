@@ -74,6 +74,7 @@ interface BankingGatewayMapper {
     @Mapping(target = "owner", source = "ownerName")
     @Mapping(target = "syncStatus", ignore = true)
     @Mapping(target = "lastSync", ignore = true)
+    @Mapping(target = "lastAnalytics", ignore = true)
     @Mapping(target = "balances", ignore = true)
     @Mapping(target = "bic", ignore = true)
     @Mapping(target = "externalIdMap", expression = "java(getExternalIdMap(accountDetails.getResourceId()))")
@@ -1,6 +1,9 @@
 package de.adorsys.multibanking.bg;
 
 import com.squareup.okhttp.Call;
+import com.squareup.okhttp.Response;
+import com.squareup.okhttp.ResponseBody;
+import de.adorsys.multibanking.bg.TransactionsPageReader.TransactionsPage;
 import de.adorsys.multibanking.domain.Balance;
 import de.adorsys.multibanking.domain.BalancesReport;
 import de.adorsys.multibanking.domain.Booking;
@@ -11,16 +14,22 @@ import de.adorsys.multibanking.xs2a_adapter.api.AccountInformationServiceAisApi;
 import de.adorsys.multibanking.xs2a_adapter.model.*;
 import lombok.Builder;
 import lombok.Data;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
 import java.math.BigDecimal;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 import static de.adorsys.multibanking.bg.ApiClientFactory.accountInformationServiceAisApi;
 
@@ -38,35 +47,40 @@ public class PaginationResolver {
     private static final String FIDUCIA_PAGINATION_QUERY_PARAMETER = "scrollRef";
     private static final String COMMERZBANK_PAGINATION_QUERY_PARAMETER = "page";
     private static final String BALANCES_LINK_KEY = "balances";
+    private static final String NEXT_LINK_KEY = "next";
+    private static final String LAST_LINK_KEY = "last";
     private static final int MAX_PAGES = 50; // prevent infinite loops
+    private static final int PREFETCH_WINDOW = 4;
 
     private final String xs2aAdapterBaseUrl;
+    // pages fetched ahead, null fetches every page in the caller thread
+    private final Executor aisCallExecutor;
     private final BankingGatewayMapper bankingGatewayMapper = new BankingGatewayMapperImpl();
 
     public PaginationResolver(String xs2aAdapterBaseUrl) {
+        this(xs2aAdapterBaseUrl, null);
+    }
+
+    public PaginationResolver(String xs2aAdapterBaseUrl, Executor aisCallExecutor) {
         this.xs2aAdapterBaseUrl = xs2aAdapterBaseUrl;
+        this.aisCallExecutor = aisCallExecutor;
     }
 
     public TransactionsResponse jsonStringToLoadBookingsResponse(String json, PaginationNextCallParameters nextCallParams) throws Exception {
-        TransactionsResponse200Json transactionsResponse200JsonTO =
-            GsonConfig.getGson().fromJson(json, TransactionsResponse200Json.class);
+        return jsonStreamToLoadBookingsResponse(new StringReader(json), nextCallParams);
+    }
 
-        List<Booking> bookings = Optional.ofNullable(transactionsResponse200JsonTO)
-            .map(TransactionsResponse200Json::getTransactions)
-            .map(AccountReport::getBooked)
-            .stream()
-            .flatMap(Collection::stream)
-            .map(bankingGatewayMapper::toBooking)
-            .collect(Collectors.toList());
+    public TransactionsResponse jsonStreamToLoadBookingsResponse(Reader json, PaginationNextCallParameters nextCallParams) throws Exception {
+        List<Booking> bookings = new ArrayList<>();
+        TransactionsPage transactionsPage = TransactionsPageReader.read(json,
+            transaction -> bookings.add(bankingGatewayMapper.toBooking(transaction)));
 
         BalancesReport balancesReport = new BalancesReport();
         Balance openingBookedBalance = new Balance();
-        BalanceList balanceList = Optional.ofNullable(transactionsResponse200JsonTO)
-            .map(TransactionsResponse200Json::getBalances)
-            .orElse(null);
+        BalanceList balanceList = transactionsPage.getBalances();
 
         if (balanceList == null) {
-            balanceList = resolveBalanceListFromLink(nextCallParams, transactionsResponse200JsonTO);
+            balanceList = resolveBalanceListFromLink(nextCallParams, transactionsPage.getLink(BALANCES_LINK_KEY));
         }
 
         Optional.ofNullable(balanceList)
@@ -91,16 +105,13 @@ public class PaginationResolver {
             });
 
         // Pagination. If "next" link is present
-        Optional.ofNullable(transactionsResponse200JsonTO)
-            .map(TransactionsResponse200Json::getTransactions)
-            .map(AccountReport::getLinks)
-            .map(linksAccountReport -> linksAccountReport.get("next"))
-            .map(HrefType::getHref)
+        Optional.ofNullable(transactionsPage.getLink(NEXT_LINK_KEY))
             .ifPresent(
                 // resolve all pages here
                 nextLink -> {
                     try {
-                        BookingsAndBalance bookingsAndBalance = resolve(nextLink, nextCallParams);
+                        BookingsAndBalance bookingsAndBalance = resolve(nextLink,
+                            toLastPageNumber(transactionsPage.getLink(LAST_LINK_KEY)), nextCallParams);
                         bookings.addAll(bookingsAndBalance.getBookings());
                         if (bookingsAndBalance.getClosingBookedBalance() != null) {
                             balancesReport.setReadyBalance(bookingsAndBalance.getClosingBookedBalance());
@@ -149,31 +160,40 @@ public class PaginationResolver {
             .build();
     }
 
-    private BookingsAndBalance resolve(String nextLink, PaginationNextCallParameters nextCallParams) {
+    BookingsAndBalance resolve(String nextLink, Integer lastPage, PaginationNextCallParameters nextCallParams) {
         List<Booking> bookings = new ArrayList<>();
         Balance closingBookedBalance = null;
-        for (int i = 0; i < MAX_PAGES; i++) {
-            BookingsAndBalance bookingsAndBalance = null;
-            try {
-                bookingsAndBalance = fetchNext(nextLink, nextCallParams);
-            } catch (Exception e) {
-                String message = e.getMessage();
-                if (e instanceof ApiException) {
-                    message = ((ApiException) e).getResponseBody();
+        Map<Integer, PrefetchedPage> prefetchedPages = new HashMap<>();
+        try {
+            for (int i = 0; i < MAX_PAGES; i++) {
+                BookingsAndBalance bookingsAndBalance = null;
+                try {
+                    bookingsAndBalance = fetchNext(nextLink, nextCallParams, i, lastPage, prefetchedPages);
+                } catch (Exception e) {
+                    String message = e.getMessage();
+                    if (e instanceof ApiException) {
+                        message = ((ApiException) e).getResponseBody();
+                    }
+                    log.error("Error fetching page " + i + ": " + message);
+                    log.error("We ignore this error and take what we got so far");
+                    break;
+                }
+                bookings.addAll(bookingsAndBalance.getBookings());
+                if (bookingsAndBalance.getClosingBookedBalance() != null) {
+                    closingBookedBalance = bookingsAndBalance.getClosingBookedBalance();
+                }
+                if (bookingsAndBalance.getLastPage() != null) {
+                    lastPage = bookingsAndBalance.getLastPage();
+                }
+                if (bookingsAndBalance.getNextLink() != null) {
+                    nextLink = bookingsAndBalance.getNextLink();
+                } else {
+                    break;
                 }
-                log.error("Error fetching page " + i + ": " + message);
-                log.error("We ignore this error and take what we got so far");
-                break;
-            }
-            bookings.addAll(bookingsAndBalance.getBookings());
-            if (bookingsAndBalance.getClosingBookedBalance() != null) {
-                closingBookedBalance = bookingsAndBalance.getClosingBookedBalance();
-            }
-            if (bookingsAndBalance.getNextLink() != null) {
-                nextLink = bookingsAndBalance.getNextLink();
-            } else {
-                break;
             }
+        } finally {
+            // pages fetched ahead but not used, e.g. after a failed page, are aborted
+            prefetchedPages.values().forEach(PrefetchedPage::cancel);
         }
         return BookingsAndBalance.builder()
             .bookings(bookings)
@@ -181,9 +201,46 @@ public class PaginationResolver {
             .build();
     }
 
-    private BookingsAndBalance fetchNext(String nextLink, PaginationNextCallParameters params) throws ApiException {
+    /**
+     * Numeric pages (e.g. Commerzbank) with a known last page are predictable, the following pages up to the last
+     * page are fetched ahead within a bounded window. Every page call counts against the access frequency limit of
+     * the consent, so without a last page link nothing is fetched ahead. Opaque scroll references (e.g. Fiducia) are
+     * only known from the previous page and fetched one by one.
+     */
+    private BookingsAndBalance fetchNext(String nextLink, PaginationNextCallParameters params, int pageIndex,
+                                         Integer lastPage,
+                                         Map<Integer, PrefetchedPage> prefetchedPages) throws Exception {
         String scrollRef = resolveScrollRef(nextLink);
         String page = resolvePage(nextLink);
+        Integer pageNumber = toPageNumber(page);
+        if (scrollRef != null || pageNumber == null || lastPage == null || aisCallExecutor == null) {
+            return executePageCall(createPageCall(scrollRef, page, params));
+        }
+
+        for (int i = 0; i < PREFETCH_WINDOW && pageIndex + i < MAX_PAGES && pageNumber + i <= lastPage; i++) {
+            if (!prefetchedPages.containsKey(pageNumber + i)) {
+                prefetchedPages.put(pageNumber + i, prefetchPage(pageNumber + i, params));
+            }
+        }
+        if (!prefetchedPages.containsKey(pageNumber)) {
+            //next link beyond the announced last page
+            return executePageCall(createPageCall(null, page, params));
+        }
+        return prefetchedPages.remove(pageNumber).join();
+    }
+
+    private PrefetchedPage prefetchPage(int page, PaginationNextCallParameters params) throws ApiException {
+        Call pageCall = createPageCall(null, String.valueOf(page), params);
+        return new PrefetchedPage(pageCall, CompletableFuture.supplyAsync(() -> {
+            try {
+                return executePageCall(pageCall);
+            } catch (ApiException | IOException e) {
+                throw new CompletionException(e);
+            }
+        }, aisCallExecutor));
+    }
+
+    Call createPageCall(String scrollRef, String page, PaginationNextCallParameters params) throws ApiException {
         AccountInformationServiceAisApi aisApi = accountInformationServiceAisApi(xs2aAdapterBaseUrl,
             params.getBgSessionData());
 
@@ -197,27 +254,23 @@ public class PaginationResolver {
             dateTo = params.getDateTo();
         }
 
-        Call aisCall = aisApi.getTransactionListCall(
+        return aisApi.getTransactionListCall(
             params.getResourceId(), "booked", UUID.randomUUID(),
             params.getConsentId(), null, params.getBankCode(), null, dateFrom,
             dateTo, null,
             null, params.isWithBalance(), null, null, null, null, null, null, null, null, null, null,
             null, null, null, scrollRef, page, null, null);
+    }
 
-        ApiResponse<Object> apiResponse = aisApi.getApiClient().execute(aisCall, String.class);
-        TransactionsResponse200Json transactionsResponse200JsonTO =
-            GsonConfig.getGson().fromJson((String) apiResponse.getData(), TransactionsResponse200Json.class);
-
-        List<Booking> bookings = Optional.ofNullable(transactionsResponse200JsonTO)
-            .map(TransactionsResponse200Json::getTransactions)
-            .map(AccountReport::getBooked)
-            .stream()
-            .flatMap(Collection::stream)
-            .map(bankingGatewayMapper::toBooking)
-            .collect(Collectors.toList());
+    BookingsAndBalance executePageCall(Call aisCall) throws ApiException, IOException {
+        List<Booking> bookings = new ArrayList<>();
+        TransactionsPage transactionsPage;
+        try (ResponseBody responseBody = executeCall(aisCall).body()) {
+            transactionsPage = TransactionsPageReader.read(responseBody.charStream(),
+                transaction -> bookings.add(bankingGatewayMapper.toBooking(transaction)));
+        }
 
-        Balance closingBookedBalance = Optional.ofNullable(transactionsResponse200JsonTO)
-            .map(TransactionsResponse200Json::getBalances)
+        Balance closingBookedBalance = Optional.ofNullable(transactionsPage.getBalances())
             .stream()
             .flatMap(Collection::stream)
             .filter(balance -> BalanceType.CLOSINGBOOKED.equals(balance.getBalanceType()))
@@ -226,17 +279,13 @@ public class PaginationResolver {
             .orElse(null);
 
         // Pagination. If another "next" link is present
-        String next = Optional.ofNullable(transactionsResponse200JsonTO)
-            .map(TransactionsResponse200Json::getTransactions)
-            .map(AccountReport::getLinks)
-            .map(linksAccountReport -> linksAccountReport.get("next"))
-            .map(HrefType::getHref)
-            .orElse(null);
+        String next = transactionsPage.getLink(NEXT_LINK_KEY);
 
         return BookingsAndBalance.builder()
             .bookings(bookings)
             .closingBookedBalance(closingBookedBalance)
             .nextLink(next)
+            .lastPage(toLastPageNumber(transactionsPage.getLink(LAST_LINK_KEY)))
             .build();
     }
 
@@ -248,20 +297,25 @@ public class PaginationResolver {
         return scrollRefUrlEncoded != null ? URLDecoder.decode(scrollRefUrlEncoded, StandardCharsets.UTF_8) : null; // scroll ref contains special characters
     }
 
+    private Integer toLastPageNumber(String lastLink) {
+        return lastLink != null ? toPageNumber(resolvePage(lastLink)) : null;
+    }
+
+    private Integer toPageNumber(String page) {
+        try {
+            return page != null ? Integer.valueOf(page) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
     private String resolvePage(String nextLink) {
         MultiValueMap<String, String> parameters = UriComponentsBuilder.fromUriString(nextLink).build().getQueryParams();
         String pageUrlEncoded = parameters.toSingleValueMap().get(COMMERZBANK_PAGINATION_QUERY_PARAMETER);
         return pageUrlEncoded != null ? URLDecoder.decode(pageUrlEncoded, StandardCharsets.UTF_8) : null; // scroll ref contains special characters
     }
 
-    private BalanceList resolveBalanceListFromLink(PaginationNextCallParameters params, TransactionsResponse200Json transactionsResponse200JsonTO) {
-        String balancesLink = Optional.ofNullable(transactionsResponse200JsonTO)
-            .map(TransactionsResponse200Json::getTransactions)
-            .map(AccountReport::getLinks)
-            .map(linksDownload -> linksDownload.get(BALANCES_LINK_KEY))
-            .map(HrefType::getHref)
-            .orElse(null);
-
+    private BalanceList resolveBalanceListFromLink(PaginationNextCallParameters params, String balancesLink) {
         if (balancesLink == null) {
             return null;
         }
@@ -291,12 +345,49 @@ public class PaginationResolver {
         return null;
     }
 
+    /**
+     * Executes the call without binding the response, the caller reads and closes the body.
+     */
+    static Response executeCall(Call call) throws IOException, ApiException {
+        Response response = call.execute();
+        if (!response.isSuccessful()) {
+            String responseBody;
+            try (ResponseBody body = response.body()) {
+                responseBody = body != null ? body.string() : null;
+            }
+            throw new ApiException(response.message(), response.code(), response.headers().toMultimap(), responseBody);
+        }
+        return response;
+    }
+
     @Data
     @Builder
-    private static class BookingsAndBalance {
+    static class BookingsAndBalance {
         private List<Booking> bookings;
         private Balance closingBookedBalance;
         private String nextLink;
+        private Integer lastPage;
+    }
+
+    /**
+     * Page fetched ahead, cancel aborts the http call if the page is not needed.
+     */
+    @RequiredArgsConstructor
+    private static class PrefetchedPage {
+        private final Call call;
+        private final CompletableFuture<BookingsAndBalance> page;
+
+        BookingsAndBalance join() throws Exception {
+            try {
+                return page.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+            }
+        }
+
+        void cancel() {
+            call.cancel();
+        }
     }
 
     @Data
@@ -0,0 +1,122 @@
+package de.adorsys.multibanking.bg;
+
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import de.adorsys.multibanking.xs2a_adapter.model.BalanceList;
+import de.adorsys.multibanking.xs2a_adapter.model.HrefType;
+import de.adorsys.multibanking.xs2a_adapter.model.TransactionDetails;
+import lombok.Data;
+import lombok.experimental.UtilityClass;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Streaming decoder of a xs2a transactions page. The booked transactions are bound and handed over one by one, so a
+ * page is never held as a whole string or object tree.
+ */
+@UtilityClass
+class TransactionsPageReader {
+
+    private final Type LINKS_TYPE = new TypeToken<Map<String, HrefType>>() {
+    }.getType();
+
+    TransactionsPage read(Reader json, Consumer<TransactionDetails> bookedTransactionConsumer) throws IOException {
+        TransactionsPage page = new TransactionsPage();
+        JsonReader reader = new JsonReader(json);
+        reader.setLenient(true);
+        if (isEmpty(reader)) {
+            return page;
+        }
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "transactions":
+                    readAccountReport(reader, page, bookedTransactionConsumer);
+                    break;
+                case "balances":
+                    page.setBalances(GsonConfig.getGson().fromJson(reader, BalanceList.class));
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        reader.endObject();
+        return page;
+    }
+
+    private void readAccountReport(JsonReader reader, TransactionsPage page,
+                                   Consumer<TransactionDetails> bookedTransactionConsumer) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return;
+        }
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "booked":
+                    readTransactions(reader, bookedTransactionConsumer);
+                    break;
+                case "_links":
+                    Map<String, HrefType> links = GsonConfig.getGson().fromJson(reader, LINKS_TYPE);
+                    page.setLinks(links);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        reader.endObject();
+    }
+
+    private void readTransactions(JsonReader reader, Consumer<TransactionDetails> transactionConsumer) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return;
+        }
+
+        reader.beginArray();
+        while (reader.hasNext()) {
+            TransactionDetails transaction = GsonConfig.getGson().fromJson(reader, TransactionDetails.class);
+            if (transaction != null) {
+                transactionConsumer.accept(transaction);
+            }
+        }
+        reader.endArray();
+    }
+
+    // an empty or null body is an empty page, like Gson.fromJson does
+    private boolean isEmpty(JsonReader reader) throws IOException {
+        try {
+            if (reader.peek() == JsonToken.NULL) {
+                reader.nextNull();
+                return true;
+            }
+            return false;
+        } catch (EOFException e) {
+            return true;
+        }
+    }
+
+    @Data
+    static class TransactionsPage {
+        private BalanceList balances;
+        private Map<String, HrefType> links;
+
+        String getLink(String key) {
+            return Optional.ofNullable(links)
+                .map(accountReportLinks -> accountReportLinks.get(key))
+                .map(HrefType::getHref)
+                .orElse(null);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package de.adorsys.multibanking.bg;
+
+import de.adorsys.multibanking.domain.Booking;
+import de.adorsys.multibanking.mapper.AccountStatementMapper;
+import de.adorsys.multibanking.mapper.AccountStatementMapperImpl;
+import org.apache.commons.io.IOUtils;
+import org.junit.Test;
+import org.kapott.hbci.GV.parsers.ISEPAParser;
+import org.kapott.hbci.GV.parsers.SEPAParserFactory;
+import org.kapott.hbci.GV_Result.GVRKUms;
+import org.kapott.hbci.sepa.SepaVersion;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+
+public class AccountStatementMapperTest {
+
+    private final AccountStatementMapper accountStatementMapper = new AccountStatementMapperImpl();
+
+    @Test
+    public void testBookingsOfSeveralDaysLatestFirst() throws Exception {
+        String camt = IOUtils.toString(AccountStatementMapperTest.class.getResourceAsStream("/camt.xml"),
+            StandardCharsets.UTF_8);
+        //three days with four lines each
+        GVRKUms statement = new GVRKUms(null);
+        parseCamt(camt.replace("2019-03-06", "2019-03-04"), statement);
+        parseCamt(camt.replace("2019-03-06", "2019-03-05"), statement);
+        parseCamt(camt, statement);
+
+        List<Booking> bookings = accountStatementMapper.createBookings(statement);
+
+        assertEquals(externalIds(formerCreateBookings(statement)), externalIds(bookings));
+        assertEquals(12, bookings.size());
+        assertEquals(LocalDate.of(2019, 3, 6), bookings.get(0).getBookingDate());
+        assertEquals(new BigDecimal("7537.02"), bookings.get(0).getAmount());
+        assertEquals(LocalDate.of(2019, 3, 4), bookings.get(11).getBookingDate());
+        assertEquals(new BigDecimal("14142.93"), bookings.get(11).getAmount());
+    }
+
+    //order of the former implementation, each booking inserted at the front
+    private List<Booking> formerCreateBookings(GVRKUms statement) {
+        List<Booking> bookings = new ArrayList<>();
+        for (GVRKUms.UmsLine line : statement.getFlatData()) {
+            bookings.add(0, accountStatementMapper.toBooking(line));
+        }
+        return bookings;
+    }
+
+    private List<String> externalIds(List<Booking> bookings) {
+        return bookings.stream()
+            .map(Booking::getExternalId)
+            .collect(Collectors.toList());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void parseCamt(String camt, GVRKUms statement) {
+        ISEPAParser<List<GVRKUms.BTag>> parser = SEPAParserFactory.get(SepaVersion.autodetect(camt));
+        parser.parse(new ByteArrayInputStream(camt.getBytes(StandardCharsets.UTF_8)), statement.getDataPerDay());
+    }
+}
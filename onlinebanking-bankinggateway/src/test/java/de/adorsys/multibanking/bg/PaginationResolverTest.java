@@ -1,5 +1,6 @@
 package de.adorsys.multibanking.bg;
 
+import com.squareup.okhttp.Call;
 import de.adorsys.multibanking.domain.Booking;
 import de.adorsys.multibanking.domain.response.TransactionsResponse;
 import lombok.extern.slf4j.Slf4j;
@@ -17,12 +18,14 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDate;
-import java.util.Collections;
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
 
 @Slf4j
 public class PaginationResolverTest {
@@ -65,6 +68,123 @@ public class PaginationResolverTest {
         assertEquals("Wrong balance", new BigDecimal("3950.02"), loadBookingsResponse.getBalancesReport().getReadyBalance().getAmount());
     }
 
+    @Test
+    public void testPrefetchedPagesInPageOrder() {
+        StubPaginationResolver paginationResolver = new StubPaginationResolver(5);
+
+        PaginationResolver.BookingsAndBalance result = paginationResolver.resolve(pageLink("page=2"), 5, null);
+
+        assertEquals(Arrays.asList("2", "3", "4", "5"), externalIds(result));
+        assertEquals(Arrays.asList("2", "3", "4", "5"), paginationResolver.requestedPages);
+        assertEquals("Pages not fetched ahead", 4, paginationResolver.executedTasks.get());
+    }
+
+    @Test
+    public void testNoPrefetchBeyondLastPage() {
+        //the bank delivers a page beyond the announced last page
+        StubPaginationResolver paginationResolver = new StubPaginationResolver(4);
+
+        PaginationResolver.BookingsAndBalance result = paginationResolver.resolve(pageLink("page=2"), 3, null);
+
+        assertEquals(Arrays.asList("2", "3", "4"), externalIds(result));
+        assertEquals(Arrays.asList("2", "3", "4"), paginationResolver.requestedPages);
+        assertEquals("Page beyond the last page fetched ahead", 2, paginationResolver.executedTasks.get());
+    }
+
+    @Test
+    public void testScrollRefPagesFetchedOneByOne() {
+        StubPaginationResolver paginationResolver = new StubPaginationResolver(3);
+
+        PaginationResolver.BookingsAndBalance result = paginationResolver.resolve(pageLink("scrollRef=2"), 3, null);
+
+        assertEquals(Arrays.asList("2", "3"), externalIds(result));
+        assertEquals(Arrays.asList("2", "3"), paginationResolver.requestedPages);
+        assertEquals("Scroll references fetched ahead", 0, paginationResolver.executedTasks.get());
+    }
+
+    @Test
+    public void testPrefetchedCallsCanceledAfterFailedPage() {
+        StubPaginationResolver paginationResolver = new StubPaginationResolver(5);
+        paginationResolver.failingPages.add("3");
+
+        PaginationResolver.BookingsAndBalance result = paginationResolver.resolve(pageLink("page=2"), 5, null);
+
+        assertEquals(Collections.singletonList("2"), externalIds(result));
+        verify(paginationResolver.calls.get("2"), never()).cancel();
+        verify(paginationResolver.calls.get("4")).cancel();
+        verify(paginationResolver.calls.get("5")).cancel();
+    }
+
+    private static String pageLink(String query) {
+        return "http://localhost/v1/accounts/resourceId/transactions?" + query;
+    }
+
+    private static List<String> externalIds(PaginationResolver.BookingsAndBalance bookingsAndBalance) {
+        return bookingsAndBalance.getBookings().stream()
+            .map(Booking::getExternalId)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Pages up to the last page, each with one booking named by its page and a next link with the same parameter.
+     * Page tasks are run by a counting executor in the caller thread.
+     */
+    private static class StubPaginationResolver extends PaginationResolver {
+        private final int lastPage;
+        private final AtomicInteger executedTasks;
+        private final List<String> requestedPages = new ArrayList<>();
+        private final Set<String> failingPages = new HashSet<>();
+        private final Map<String, Call> calls = new HashMap<>();
+        private final Map<Call, String> pageLinks = new HashMap<>();
+
+        StubPaginationResolver(int lastPage) {
+            this(lastPage, new AtomicInteger());
+        }
+
+        private StubPaginationResolver(int lastPage, AtomicInteger executedTasks) {
+            super(null, countingExecutor(executedTasks));
+            this.lastPage = lastPage;
+            this.executedTasks = executedTasks;
+        }
+
+        private static Executor countingExecutor(AtomicInteger executedTasks) {
+            return task -> {
+                executedTasks.incrementAndGet();
+                task.run();
+            };
+        }
+
+        @Override
+        Call createPageCall(String scrollRef, String page, PaginationNextCallParameters params) {
+            String pageKey = scrollRef != null ? scrollRef : page;
+            requestedPages.add(pageKey);
+            Call call = mock(Call.class);
+            calls.put(pageKey, call);
+            pageLinks.put(call, scrollRef != null ? "scrollRef=" : "page=");
+            return call;
+        }
+
+        @Override
+        BookingsAndBalance executePageCall(Call call) throws IOException {
+            String pageKey = calls.entrySet().stream()
+                .filter(entry -> entry.getValue() == call)
+                .map(Map.Entry::getKey)
+                .findFirst()
+                .orElseThrow(IllegalStateException::new);
+            if (failingPages.contains(pageKey)) {
+                throw new IOException("page " + pageKey + " not available");
+            }
+
+            Booking booking = new Booking();
+            booking.setExternalId(pageKey);
+            int page = Integer.parseInt(pageKey);
+            return BookingsAndBalance.builder()
+                .bookings(Collections.singletonList(booking))
+                .nextLink(page < lastPage ? pageLink(pageLinks.get(call) + (page + 1)) : null)
+                .build();
+        }
+    }
+
     private void checkAmountAndBalance(Booking booking, double amount, double balance) {
         assertEquals("Wrong amount", amount, booking.getAmount().doubleValue(), 0);
         assertEquals("Wrong balance", balance, booking.getBalance().doubleValue(), 0);
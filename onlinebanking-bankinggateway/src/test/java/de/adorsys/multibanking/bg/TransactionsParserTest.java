@@ -1,12 +1,19 @@
 package de.adorsys.multibanking.bg;
 
+import de.adorsys.multibanking.domain.Booking;
 import de.adorsys.multibanking.domain.response.TransactionsResponse;
 import de.adorsys.multibanking.mapper.TransactionsParser;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.IOUtils;
 import org.junit.Test;
 
+import java.io.InputStreamReader;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
@@ -23,6 +30,24 @@ public class TransactionsParserTest {
         assertEquals("Wrong balance", BigDecimal.valueOf(123), loadBookingsResponse.getBalancesReport().getReadyBalance().getAmount());
     }
 
+    @Test
+    public void testCamtDocuments() throws Exception {
+        String camt = IOUtils.toString(TransactionsParserTest.class.getResourceAsStream("/camt.xml"));
+        //one document per day, not in day order
+        String camtDocuments = camtDocument(camt, "2019-03-06", "300")
+            + camtDocument(camt, "2019-03-04", "100")
+            + camtDocument(camt, "2019-03-05", "200");
+
+        TransactionsResponse loadBookingsResponse = TransactionsParser.camtStringToLoadBookingsResponse(camtDocuments);
+
+        assertEquals("Wrong count of bookings", 12, loadBookingsResponse.getBookings().size());
+        Map<LocalDate, Long> bookingsPerDay = loadBookingsResponse.getBookings().stream()
+            .collect(Collectors.groupingBy(Booking::getBookingDate, Collectors.counting()));
+        assertEquals("Wrong bookings per day", Stream.of("2019-03-04", "2019-03-05", "2019-03-06")
+            .collect(Collectors.toMap(LocalDate::parse, day -> 4L)), bookingsPerDay);
+        assertEquals("Wrong balance", BigDecimal.valueOf(300), loadBookingsResponse.getBalancesReport().getReadyBalance().getAmount());
+    }
+
     @Test
     public void testMt940() throws Exception {
         String mt940 = IOUtils.toString(TransactionsParserTest.class.getResourceAsStream("/mt940.txt"));
@@ -32,6 +57,29 @@ public class TransactionsParserTest {
         assertEquals("Wrong balance", BigDecimal.valueOf(3507505.87), loadBookingsResponse.getBalancesReport().getReadyBalance().getAmount());
     }
 
+    @Test
+    public void testCamtStream() throws Exception {
+        TransactionsResponse loadBookingsResponse = TransactionsParser.camtStreamToLoadBookingsResponse(
+            TransactionsParserTest.class.getResourceAsStream("/camt.xml"));
+        assertEquals("Wrong count of bookings", 4, loadBookingsResponse.getBookings().size());
+        assertEquals("Wrong balance", BigDecimal.valueOf(123), loadBookingsResponse.getBalancesReport().getReadyBalance().getAmount());
+    }
+
+    @Test
+    public void testMt940Stream() throws Exception {
+        TransactionsResponse loadBookingsResponse = TransactionsParser.mt940StreamToLoadBookingsResponse(
+            new InputStreamReader(TransactionsParserTest.class.getResourceAsStream("/mt940.txt"), StandardCharsets.UTF_8));
+        assertEquals("Wrong count of bookings", 5, loadBookingsResponse.getBookings().size());
+        assertEquals("Wrong balance", BigDecimal.valueOf(3507505.87), loadBookingsResponse.getBalancesReport().getReadyBalance().getAmount());
+    }
+
+    private String camtDocument(String camt, String day, String closingBalance) {
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" + camt
+            .replace("2019-03-06", day)
+            .replace("<Dt>2019-01-01</Dt>", "<Dt>" + day + "</Dt>")
+            .replace("<Amt Ccy=\"EUR\">123</Amt>", "<Amt Ccy=\"EUR\">" + closingBalance + "</Amt>");
+    }
+
     @Test
     public void testJson() throws Exception {
         String json = IOUtils.toString(TransactionsParserTest.class.getResourceAsStream("/transactions.json"), "UTF-8");
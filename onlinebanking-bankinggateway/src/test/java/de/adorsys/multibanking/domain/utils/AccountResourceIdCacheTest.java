@@ -0,0 +1,99 @@
+package de.adorsys.multibanking.domain.utils;
+
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AccountResourceIdCacheTest {
+
+    private static final long LIFETIME_MS = 1000;
+    private static final long UNKNOWN_IBAN_LIFETIME_MS = 100;
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final AccountResourceIdCache cache = new AccountResourceIdCache(LIFETIME_MS, UNKNOWN_IBAN_LIFETIME_MS,
+        now::get);
+
+    @Test
+    public void testAccountsLoadedOncePerConsent() {
+        assertThat(cache.getResourceId("consent", "DE1", accountsLoader())).contains("resource-DE1");
+        assertThat(cache.getResourceId("consent", "DE1", accountsLoader())).contains("resource-DE1");
+        assertThat(loads.get()).isEqualTo(1);
+
+        assertThat(cache.getResourceId("other-consent", "DE1", accountsLoader())).contains("resource-DE1");
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void testAccountsLoadedAgainAfterLifetime() {
+        cache.getResourceId("consent", "DE1", accountsLoader());
+
+        now.set(LIFETIME_MS - 1);
+        assertThat(cache.getResourceId("consent", "DE1", accountsLoader())).contains("resource-DE1");
+        assertThat(loads.get()).isEqualTo(1);
+
+        now.set(LIFETIME_MS);
+        assertThat(cache.getResourceId("consent", "DE1", accountsLoader())).contains("resource-DE1");
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void testUnknownIbanNotLoadedAgainWithinUnknownIbanLifetime() {
+        cache.getResourceId("consent", "DE1", accountsLoader());
+
+        assertThat(cache.getResourceId("consent", "DE2", accountsLoader())).isEmpty();
+        assertThat(loads.get()).isEqualTo(2);
+
+        now.set(UNKNOWN_IBAN_LIFETIME_MS - 1);
+        assertThat(cache.getResourceId("consent", "DE2", accountsLoader())).isEmpty();
+        assertThat(cache.getResourceId("consent", "DE1", accountsLoader())).contains("resource-DE1");
+        assertThat(loads.get()).isEqualTo(2);
+
+        now.set(UNKNOWN_IBAN_LIFETIME_MS + 1);
+        assertThat(cache.getResourceId("consent", "DE2", accountsLoader())).isEmpty();
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void testIbanAddedToConsentFoundByLoadingAgain() {
+        cache.getResourceId("consent", "DE1", accountsLoader());
+
+        assertThat(cache.getResourceId("consent", "DE2", () -> {
+            loads.incrementAndGet();
+            return Collections.singletonMap("DE2", "resource-DE2");
+        })).contains("resource-DE2");
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void testExpiredConsentsEvicted() {
+        cache.getResourceId("consent", "DE1", accountsLoader());
+        cache.getResourceId("other-consent", "DE1", accountsLoader());
+        assertThat(cache.size()).isEqualTo(2);
+
+        now.set(LIFETIME_MS);
+        cache.getResourceId("new-consent", "DE1", accountsLoader());
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void testNotCachedWithoutConsentKey() {
+        cache.getResourceId(null, "DE1", accountsLoader());
+        cache.getResourceId(null, "DE1", accountsLoader());
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    private Supplier<Map<String, String>> accountsLoader() {
+        return () -> {
+            loads.incrementAndGet();
+            return Collections.singletonMap("DE1", "resource-DE1");
+        };
+    }
+}
@@ -0,0 +1,153 @@
+package de.adorsys.multibanking.domain.utils;
+
+import org.junit.Test;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SepaUsageFieldsTest {
+
+    //regular expressions replaced by the scanner
+    private static final Pattern CREDITOR_ID_REGEX =
+        Pattern.compile("([deDE]{2}[0-9]{2,2}[A-Za-z0-9]{3,3}[0]{1}[0-9]{10})", Pattern.CASE_INSENSITIVE);
+    private static final Pattern IBAN_REGEX =
+        Pattern.compile("([A-Z]{2}\\d{2} ?\\d{4} ?\\d{4} ?\\d{4} ?\\d{4} ?[\\d]{0,2})", Pattern.CASE_INSENSITIVE);
+    private static final Pattern MANDATE_REFERENCE_REGEX =
+        Pattern.compile("(?:mref|mandatsreferenz|mandatsref|mandat)[:\\+]?\\s*(\\S+?)" +
+            "(?:\\s+|\\+|CRED|MANDATSDATUM|EINREICHER-ID)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern ABWA_REGEX = Pattern.compile("(?:abwa\\+)(.*)", Pattern.CASE_INSENSITIVE);
+
+    private static final String[] USAGES = {
+        null,
+        "",
+        "Miete Januar",
+        //mandate reference, lazy up to the first terminator
+        "EREF+123 MREF+M-4711 CRED+DE98ZZZ09999999999 SVWZ+Beitrag",
+        "MREF+ABCCRED+DE98ZZZ09999999999",
+        "MREF+ABCMANDATSDATUM 01.01.2019",
+        "MREF+ABCEINREICHER-ID DE98ZZZ09999999999",
+        "MREF+AB+CD SVWZ+Beitrag",
+        "MREF++X SVWZ+Beitrag",
+        "mref:abc\tdef",
+        "MREF+  M-4711\nCRED+",
+        "MREF+M-4711",
+        "MREF+",
+        //mandat, mandatsref and mandatsreferenz
+        "Mandat 12345 vom 01.01.2019",
+        "MANDAT:12345 ",
+        "Mandatsref: M-1 Glaeubiger-ID",
+        "MANDATSREF:ABC",
+        "MANDATSREF:ABC ",
+        "Mandatsreferenz ABC+DEF ",
+        "MANDATSREFERENZ:ABCMANDATSDATUM",
+        "Mandatsreferenzen ABC ",
+        "Mref+Kd-12 Cred+De98zzz09999999999 Svwz+Beitrag",
+        //creditor id
+        "CRED+de98zzz09999999999",
+        "CRED+DE98ZZZ19999999999",
+        "CRED+DE98ZZZ0999999999",
+        "EDDE12AB3012345678901",
+        //iban with and without spaces
+        "IBAN: DE89 3704 0044 0532 0130 00 BIC: COBADEFFXXX",
+        "IBAN+DE89370400440532013000",
+        "iban de89370400440532013000",
+        "DE89 3704 0044 0532 0130 0",
+        "DE89 3704 0044 0532 0130 X",
+        "DE89 3704 0044 0532 0130 123",
+        "DE89  3704 0044 0532 0130 00",
+        "DE89 3704 0044 0532 013",
+        "NL91ABNA0417164300 DE89370400440532013000",
+        //different initiator up to the line terminator
+        "SVWZ+Miete ABWA+Max Mustermann",
+        "SVWZ+Miete ABWA+Max Mustermann\nEREF+1",
+        "SVWZ+Miete abwa+Max Mustermann\r\nEREF+1",
+        "ABWA+Max\u0085Mustermann",
+        "ABWA+Max\u2028Mustermann",
+        "ABWA+",
+        "ABWA Max Mustermann",
+        //all fields
+        "EREF+E-1 MREF+M-1 CRED+DE98ZZZ09999999999 IBAN+DE89 3704 0044 0532 0130 00 SVWZ+Beitrag ABWA+Verein e.V."
+    };
+
+    @Test
+    public void testParseEqualsRegularExpressions() {
+        for (String usage : USAGES) {
+            SepaUsageFields usageFields = SepaUsageFields.parse(usage);
+
+            assertThat(usageFields.getCreditorId()).as("creditor id of [%s]", usage)
+                .isEqualTo(extractCreditorId(usage));
+            assertThat(usageFields.getMandateReference()).as("mandate reference of [%s]", usage)
+                .isEqualTo(extractMandateReference(usage));
+            assertThat(usageFields.getIban()).as("iban of [%s]", usage)
+                .isEqualTo(extractIban(usage));
+            assertThat(usageFields.getDifferentInitiator()).as("different initiator of [%s]", usage)
+                .isEqualTo(extractDifferentInitiator(usage));
+        }
+    }
+
+    @Test
+    public void testFindEqualsRegularExpressions() {
+        for (String usage : USAGES) {
+            assertThat(SepaUsageFields.findCreditorId(usage)).as("creditor id of [%s]", usage)
+                .isEqualTo(extractCreditorId(usage));
+            assertThat(SepaUsageFields.findMandateReference(usage)).as("mandate reference of [%s]", usage)
+                .isEqualTo(extractMandateReference(usage));
+            assertThat(SepaUsageFields.findIban(usage)).as("iban of [%s]", usage)
+                .isEqualTo(extractIban(usage));
+            assertThat(SepaUsageFields.findDifferentInitiator(usage)).as("different initiator of [%s]", usage)
+                .isEqualTo(extractDifferentInitiator(usage));
+        }
+    }
+
+    @Test
+    public void testParsedFields() {
+        SepaUsageFields usageFields = SepaUsageFields.parse(USAGES[USAGES.length - 1]);
+
+        assertThat(usageFields.getCreditorId()).isEqualTo("DE98ZZZ09999999999");
+        assertThat(usageFields.getMandateReference()).isEqualTo("M-1");
+        assertThat(usageFields.getIban()).isEqualTo("DE89 3704 0044 0532 0130 00");
+        assertThat(usageFields.getDifferentInitiator()).isEqualTo("Verein e.V.");
+
+        assertThat(SepaUsageFields.parse("MREF+ABCCRED+DE98ZZZ09999999999").getMandateReference()).isEqualTo("ABC");
+        assertThat(SepaUsageFields.parse("MREF++X SVWZ+Beitrag").getMandateReference()).isEqualTo(" X");
+        assertThat(SepaUsageFields.parse("MANDATSREF:ABC").getMandateReference()).isNull();
+        assertThat(SepaUsageFields.parse("iban de89370400440532013000").getIban())
+            .isEqualTo("DE89370400440532013000");
+        assertThat(SepaUsageFields.parse("ABWA+Max Mustermann\nEREF+1").getDifferentInitiator())
+            .isEqualTo("Max Mustermann");
+    }
+
+    private static String extractCreditorId(String input) {
+        if (input == null) {
+            return null;
+        }
+        Matcher matcher = CREDITOR_ID_REGEX.matcher(input);
+        return matcher.find() ? matcher.group(0) : null;
+    }
+
+    private static String extractMandateReference(String input) {
+        if (input == null) {
+            return null;
+        }
+        Matcher matcher = MANDATE_REFERENCE_REGEX.matcher(input);
+        return matcher.find() ? matcher.group(1).replace("+", " ") : null;
+    }
+
+    private static String extractIban(String input) {
+        if (input == null) {
+            return null;
+        }
+        Matcher matcher = IBAN_REGEX.matcher(input);
+        return matcher.find() ? matcher.group(0).toUpperCase() : null;
+    }
+
+    private static String extractDifferentInitiator(String input) {
+        if (input == null) {
+            return null;
+        }
+        Matcher matcher = ABWA_REGEX.matcher(input);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+}
@@ -39,6 +39,7 @@ public class BankAccount {
     private String iban;
     private SyncStatus syncStatus;
     private LocalDateTime lastSync;
+    private LocalDateTime lastAnalytics;
 
     public BankAccount balances(BalancesReport bankAccountBalance) {
         this.balances = bankAccountBalance;
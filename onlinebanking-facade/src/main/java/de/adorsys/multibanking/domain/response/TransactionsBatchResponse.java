@@ -0,0 +1,34 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.multibanking.domain.response;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Data
+public class TransactionsBatchResponse {
+
+    //responses by the account id of the requests
+    private final Map<String, TransactionsResponse> transactionsResponses = new LinkedHashMap<>();
+    //accounts not loaded by the batch, e.g. because sca is needed, to be loaded on their own
+    private final List<String> notLoadedAccountIds = new ArrayList<>();
+
+}
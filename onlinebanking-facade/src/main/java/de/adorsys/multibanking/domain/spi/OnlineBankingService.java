@@ -7,6 +7,8 @@ import de.adorsys.multibanking.domain.request.TransactionRequest;
 import de.adorsys.multibanking.domain.response.*;
 import de.adorsys.multibanking.domain.transaction.*;
 
+import java.util.Map;
+
 public interface OnlineBankingService {
 
     BankApi bankApi();
@@ -29,6 +31,28 @@ public interface OnlineBankingService {
 
     TransactionsResponse loadTransactions(TransactionRequest<LoadTransactions> loadTransactionsRequest);
 
+    /**
+     * Loads the transactions of several accounts of one bank access, requests and responses are keyed on the account
+     * id. Once a response needs sca the loading stops, that account and the remaining ones are reported as not loaded
+     * and have to be loaded on their own.
+     */
+    default TransactionsBatchResponse loadTransactions(Map<String, TransactionRequest<LoadTransactions>> loadTransactionsRequests) {
+        TransactionsBatchResponse batchResponse = new TransactionsBatchResponse();
+        loadTransactionsRequests.forEach((accountId, request) -> {
+            if (!batchResponse.getNotLoadedAccountIds().isEmpty()) {
+                batchResponse.getNotLoadedAccountIds().add(accountId);
+                return;
+            }
+            TransactionsResponse response = loadTransactions(request);
+            if (response.getAuthorisationCodeResponse() != null) {
+                batchResponse.getNotLoadedAccountIds().add(accountId);
+            } else {
+                batchResponse.getTransactionsResponses().put(accountId, response);
+            }
+        });
+        return batchResponse;
+    }
+
     StandingOrdersResponse loadStandingOrders(TransactionRequest<LoadStandingOrders> loadStandingOrdersRequest);
 
     LoadBalancesResponse loadBalances(TransactionRequest<LoadBalances> request);
@@ -0,0 +1,75 @@
+package de.adorsys.multibanking.domain.utils;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Account resource ids by iban per consent, so the account list of a consent is fetched once instead of before every
+ * account request. The accounts of a consent are fetched again after the lifetime or for an unknown iban. An iban
+ * still unknown after fetching the accounts is not part of the consent, it is remembered for the unknown iban
+ * lifetime so repeated requests for it don't fetch the accounts again.
+ */
+public class AccountResourceIdCache {
+
+    private final Map<String, ConsentAccounts> consentAccounts = new ConcurrentHashMap<>();
+    private final long lifetimeMs;
+    private final long unknownIbanLifetimeMs;
+    private final LongSupplier clock;
+
+    public AccountResourceIdCache(long lifetimeMs, long unknownIbanLifetimeMs) {
+        this(lifetimeMs, unknownIbanLifetimeMs, System::currentTimeMillis);
+    }
+
+    AccountResourceIdCache(long lifetimeMs, long unknownIbanLifetimeMs, LongSupplier clock) {
+        this.lifetimeMs = lifetimeMs;
+        this.unknownIbanLifetimeMs = unknownIbanLifetimeMs;
+        this.clock = clock;
+    }
+
+    /**
+     * @param consentKey     consent id or a hash of the access token bound to the consent
+     * @param accountsLoader fetches the resource ids by iban of all accounts of the consent
+     */
+    public Optional<String> getResourceId(String consentKey, String iban,
+                                          Supplier<Map<String, String>> accountsLoader) {
+        if (iban == null) {
+            return Optional.empty();
+        }
+
+        long now = clock.getAsLong();
+        ConsentAccounts accounts = consentKey != null ? consentAccounts.get(consentKey) : null;
+        if (accounts != null && accounts.expiresAt > now) {
+            String resourceId = accounts.resourceIds.get(iban);
+            if (resourceId != null || accounts.unknownIbans.getOrDefault(iban, 0L) > now) {
+                return Optional.ofNullable(resourceId);
+            }
+        }
+
+        accounts = new ConsentAccounts(accountsLoader.get(), now + lifetimeMs);
+        if (!accounts.resourceIds.containsKey(iban)) {
+            accounts.unknownIbans.put(iban, now + unknownIbanLifetimeMs);
+        }
+        if (consentKey != null) {
+            consentAccounts.values().removeIf(consent -> consent.expiresAt <= now);
+            consentAccounts.put(consentKey, accounts);
+        }
+        return Optional.ofNullable(accounts.resourceIds.get(iban));
+    }
+
+    int size() {
+        return consentAccounts.size();
+    }
+
+    @RequiredArgsConstructor
+    private static class ConsentAccounts {
+
+        private final Map<String, String> resourceIds;
+        private final long expiresAt;
+        private final Map<String, Long> unknownIbans = new ConcurrentHashMap<>();
+    }
+}
@@ -0,0 +1,243 @@
+package de.adorsys.multibanking.domain.utils;
+
+import lombok.Getter;
+
+/**
+ * Sepa fields of a booking usage, extracted within one scan of the usage. The matching is equal to the former
+ * case insensitive regular expressions, only the first occurrence of a field is taken.
+ */
+@Getter
+public class SepaUsageFields {
+
+    private static final int CREDITOR_ID_LENGTH = 18;
+    private static final String[] MANDATE_KEYWORDS = {"MREF", "MANDATSREFERENZ", "MANDATSREF", "MANDAT"};
+    private static final String[] MANDATE_TERMINATORS = {"CRED", "MANDATSDATUM", "EINREICHER-ID"};
+    private static final String ABWA = "ABWA+";
+
+    private String creditorId;
+    private String mandateReference;
+    private String iban;
+    private String differentInitiator;
+
+    private SepaUsageFields() {
+    }
+
+    public static SepaUsageFields parse(String usage) {
+        SepaUsageFields fields = new SepaUsageFields();
+        if (usage == null) {
+            return fields;
+        }
+
+        for (int i = 0; i < usage.length() && !fields.isComplete(); i++) {
+            if (fields.creditorId == null) {
+                fields.creditorId = creditorIdAt(usage, i);
+            }
+            if (fields.mandateReference == null) {
+                fields.mandateReference = mandateReferenceAt(usage, i);
+            }
+            if (fields.iban == null) {
+                fields.iban = ibanAt(usage, i);
+            }
+            if (fields.differentInitiator == null) {
+                fields.differentInitiator = differentInitiatorAt(usage, i);
+            }
+        }
+        return fields;
+    }
+
+    static String findCreditorId(String usage) {
+        for (int i = 0; usage != null && i < usage.length(); i++) {
+            String creditorId = creditorIdAt(usage, i);
+            if (creditorId != null) {
+                return creditorId;
+            }
+        }
+        return null;
+    }
+
+    static String findMandateReference(String usage) {
+        for (int i = 0; usage != null && i < usage.length(); i++) {
+            String mandateReference = mandateReferenceAt(usage, i);
+            if (mandateReference != null) {
+                return mandateReference;
+            }
+        }
+        return null;
+    }
+
+    static String findIban(String usage) {
+        for (int i = 0; usage != null && i < usage.length(); i++) {
+            String iban = ibanAt(usage, i);
+            if (iban != null) {
+                return iban;
+            }
+        }
+        return null;
+    }
+
+    static String findDifferentInitiator(String usage) {
+        for (int i = 0; usage != null && i < usage.length(); i++) {
+            String differentInitiator = differentInitiatorAt(usage, i);
+            if (differentInitiator != null) {
+                return differentInitiator;
+            }
+        }
+        return null;
+    }
+
+    private boolean isComplete() {
+        return creditorId != null && mandateReference != null && iban != null && differentInitiator != null;
+    }
+
+    //[deDE]{2}[0-9]{2}[A-Za-z0-9]{3}0[0-9]{10}
+    private static String creditorIdAt(String usage, int start) {
+        if (start + CREDITOR_ID_LENGTH > usage.length()) {
+            return null;
+        }
+        for (int i = start; i < start + CREDITOR_ID_LENGTH; i++) {
+            char c = usage.charAt(i);
+            int offset = i - start;
+            boolean matches;
+            if (offset < 2) {
+                matches = c == 'D' || c == 'd' || c == 'E' || c == 'e';
+            } else if (offset < 4 || offset > 7) {
+                matches = isDigit(c);
+            } else if (offset < 7) {
+                matches = isLetter(c) || isDigit(c);
+            } else {
+                matches = c == '0';
+            }
+            if (!matches) {
+                return null;
+            }
+        }
+        return usage.substring(start, start + CREDITOR_ID_LENGTH);
+    }
+
+    //(?:mref|mandatsreferenz|mandatsref|mandat)[:+]?\s*(\S+?)(?:\s+|\+|CRED|MANDATSDATUM|EINREICHER-ID)
+    private static String mandateReferenceAt(String usage, int start) {
+        for (String keyword : MANDATE_KEYWORDS) {
+            if (!regionMatches(usage, start, keyword)) {
+                continue;
+            }
+            int end = start + keyword.length();
+            String reference = null;
+            if (end < usage.length() && (usage.charAt(end) == ':' || usage.charAt(end) == '+')) {
+                reference = mandateReferenceFrom(usage, skipWhitespace(usage, end + 1));
+            }
+            if (reference == null) {
+                reference = mandateReferenceFrom(usage, skipWhitespace(usage, end));
+            }
+            if (reference != null) {
+                return reference.replace("+", " ");
+            }
+        }
+        return null;
+    }
+
+    private static String mandateReferenceFrom(String usage, int start) {
+        for (int end = start + 1; end <= usage.length(); end++) {
+            if (isWhitespace(usage.charAt(end - 1))) {
+                return null;
+            }
+            if (isMandateTerminatorAt(usage, end)) {
+                return usage.substring(start, end);
+            }
+        }
+        return null;
+    }
+
+    private static boolean isMandateTerminatorAt(String usage, int index) {
+        if (index >= usage.length()) {
+            return false;
+        }
+        char c = usage.charAt(index);
+        if (isWhitespace(c) || c == '+') {
+            return true;
+        }
+        for (String terminator : MANDATE_TERMINATORS) {
+            if (regionMatches(usage, index, terminator)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    //[A-Z]{2}\d{2} ?\d{4} ?\d{4} ?\d{4} ?\d{4} ?\d{0,2}
+    private static String ibanAt(String usage, int start) {
+        if (start + 4 > usage.length() || !isLetter(usage.charAt(start)) || !isLetter(usage.charAt(start + 1))
+            || !isDigit(usage.charAt(start + 2)) || !isDigit(usage.charAt(start + 3))) {
+            return null;
+        }
+        int end = start + 4;
+        for (int group = 0; group < 4; group++) {
+            end = skipSpace(usage, end);
+            for (int i = 0; i < 4; i++, end++) {
+                if (end >= usage.length() || !isDigit(usage.charAt(end))) {
+                    return null;
+                }
+            }
+        }
+        end = skipSpace(usage, end);
+        for (int i = 0; i < 2 && end < usage.length() && isDigit(usage.charAt(end)); i++) {
+            end++;
+        }
+        return usage.substring(start, end).toUpperCase();
+    }
+
+    //abwa\+(.*)
+    private static String differentInitiatorAt(String usage, int start) {
+        if (!regionMatches(usage, start, ABWA)) {
+            return null;
+        }
+        int end = start + ABWA.length();
+        while (end < usage.length() && !isLineTerminator(usage.charAt(end))) {
+            end++;
+        }
+        return usage.substring(start + ABWA.length(), end);
+    }
+
+    private static int skipSpace(String usage, int index) {
+        return index < usage.length() && usage.charAt(index) == ' ' ? index + 1 : index;
+    }
+
+    private static int skipWhitespace(String usage, int index) {
+        while (index < usage.length() && isWhitespace(usage.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    //ascii case insensitive like Pattern.CASE_INSENSITIVE, keywords are upper case
+    private static boolean regionMatches(String usage, int start, String keyword) {
+        if (start + keyword.length() > usage.length()) {
+            return false;
+        }
+        for (int i = 0; i < keyword.length(); i++) {
+            char c = usage.charAt(start + i);
+            if (c >= 'a' && c <= 'z') {
+                c = (char) (c - 'a' + 'A');
+            }
+            if (c != keyword.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+}
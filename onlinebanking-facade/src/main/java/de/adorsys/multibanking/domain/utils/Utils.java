@@ -3,69 +3,26 @@ package de.adorsys.multibanking.domain.utils;
 import java.security.SecureRandom;
 import java.time.LocalDate;
 import java.time.YearMonth;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Created by alexg on 18.05.17.
  */
 public class Utils {
 
-    private static Pattern creditorIdRegex = Pattern.compile("([deDE]{2}[0-9]{2,2}[A-Za-z0-9]{3,3}[0]{1}[0-9]{10})",
-        Pattern.CASE_INSENSITIVE);
-
-    private static Pattern ibanRegex = Pattern.compile("([A-Z]{2}\\d{2} ?\\d{4} ?\\d{4} ?\\d{4} ?\\d{4} ?[\\d]{0,2})",
-        Pattern.CASE_INSENSITIVE);
-
-    private static Pattern mandateReferenceRegex =
-        Pattern.compile("(?:mref|mandatsreferenz|mandatsref|mandat)[:\\+]?\\s*(\\S+?)" +
-            "(?:\\s+|\\+|CRED|MANDATSDATUM|EINREICHER-ID)", Pattern.CASE_INSENSITIVE);
-
-    private static Pattern abwaRegex =
-        Pattern.compile("(?:abwa\\+)(.*)", Pattern.CASE_INSENSITIVE);
-
     public static String extractCreditorId(String input) {
-        if (input == null) {
-            return null;
-        }
-        Matcher matcher = creditorIdRegex.matcher(input);
-        if (matcher.find()) {
-            return matcher.group(0);
-        }
-        return null;
+        return SepaUsageFields.findCreditorId(input);
     }
 
     public static String extractDifferentInitiator(String input) {
-        if (input == null) {
-            return null;
-        }
-        Matcher matcher = abwaRegex.matcher(input);
-        if (matcher.find()) {
-            return matcher.group(1);
-        }
-        return null;
+        return SepaUsageFields.findDifferentInitiator(input);
     }
 
     public static String extractIban(String input) {
-        if (input == null) {
-            return null;
-        }
-        Matcher matcher = ibanRegex.matcher(input);
-        if (matcher.find()) {
-            return matcher.group(0).toUpperCase();
-        }
-        return null;
+        return SepaUsageFields.findIban(input);
     }
 
     public static String extractMandateReference(String input) {
-        if (input == null) {
-            return null;
-        }
-        Matcher matcher = mandateReferenceRegex.matcher(input);
-        if (matcher.find()) {
-            return matcher.group(1).replace("+", " ");
-        }
-        return null;
+        return SepaUsageFields.findMandateReference(input);
     }
 
     public static SecureRandom getSecureRandom() {
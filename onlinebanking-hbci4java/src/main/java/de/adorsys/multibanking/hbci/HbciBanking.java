@@ -21,6 +21,7 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import de.adorsys.multibanking.domain.Bank;
 import de.adorsys.multibanking.domain.BankAccount;
 import de.adorsys.multibanking.domain.BankApi;
 import de.adorsys.multibanking.domain.BankApiUser;
@@ -37,10 +38,14 @@ import org.kapott.hbci.manager.HBCIUtils;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static de.adorsys.multibanking.domain.ScaStatus.FINALISED;
-import static de.adorsys.multibanking.hbci.HbciCacheHandler.*;
 import static de.adorsys.multibanking.hbci.util.HbciErrorUtils.*;
 
 public class HbciBanking implements OnlineBankingService {
@@ -48,6 +53,7 @@ public class HbciBanking implements OnlineBankingService {
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
     private final HbciScaHandler hbciScaHandler;
+    private final HbciJobContext jobContext;
 
     private final long sysIdExpirationTimeMs;
     private final long updExpirationTimeMs;
@@ -57,7 +63,20 @@ public class HbciBanking implements OnlineBankingService {
     }
 
     public HbciBanking(HBCIProduct hbciProduct, InputStream customBankConfigInput, long sysIdExpirationTimeMs, long updExpirationTimeMs) {
-        this.hbciScaHandler = new HbciScaHandler(hbciProduct, sysIdExpirationTimeMs, updExpirationTimeMs);
+        this(hbciProduct, customBankConfigInput, sysIdExpirationTimeMs, updExpirationTimeMs,
+            new HbciCacheHandler(null, 0, null), new HbciDialogSessionManager(0), new HbciBulkhead(0, 0, 0, null));
+    }
+
+    /**
+     * @param cacheHandler         bpd cache and parameter data stores
+     * @param dialogSessionManager open dialogs kept for the following jobs of a consent
+     * @param bulkhead             limits the parallel jobs per bank host
+     */
+    public HbciBanking(HBCIProduct hbciProduct, InputStream customBankConfigInput, long sysIdExpirationTimeMs,
+                       long updExpirationTimeMs, HbciCacheHandler cacheHandler,
+                       HbciDialogSessionManager dialogSessionManager, HbciBulkhead bulkhead) {
+        this.jobContext = new HbciJobContext(cacheHandler, dialogSessionManager, bulkhead);
+        this.hbciScaHandler = new HbciScaHandler(hbciProduct, sysIdExpirationTimeMs, updExpirationTimeMs, jobContext);
 
         try (InputStream inputStream = Optional.ofNullable(customBankConfigInput)
             .orElseGet(this::getDefaultBanksInput)) {
@@ -127,7 +146,7 @@ public class HbciBanking implements OnlineBankingService {
             if (hbciConsent.getHbciTanSubmit() == null || hbciConsent.getStatus() == FINALISED) {
                 HbciBpdUpdCallback hbciCallback = createCallback(request.getBank());
 
-                AccountInformationJob accountInformationJob = new AccountInformationJob(request);
+                AccountInformationJob accountInformationJob = new AccountInformationJob(request, jobContext);
                 AccountInformationResponse response = accountInformationJob.execute(hbciCallback);
                 response.setBankApiConsentData(hbciCallback.updateConsentUpd(hbciConsent));
                 return response;
@@ -153,7 +172,7 @@ public class HbciBanking implements OnlineBankingService {
             if (hbciConsent.getHbciTanSubmit() == null || hbciConsent.getStatus() == FINALISED) {
                 HbciBpdUpdCallback hbciCallback = createCallback(loadTransactionsRequest.getBank());
 
-                LoadTransactionsJob loadBookingsJob = new LoadTransactionsJob(loadTransactionsRequest);
+                LoadTransactionsJob loadBookingsJob = new LoadTransactionsJob(loadTransactionsRequest, jobContext);
                 TransactionsResponse response = loadBookingsJob.execute(hbciCallback);
                 response.setBankApiConsentData(hbciCallback.updateConsentUpd(hbciConsent));
                 return response;
@@ -170,6 +189,39 @@ public class HbciBanking implements OnlineBankingService {
         }
     }
 
+    /**
+     * Loads the transactions of all accounts with one dialog. In case of sca the accounts not loaded are reported,
+     * they are loaded on their own with the transaction authorisation.
+     */
+    @Override
+    public TransactionsBatchResponse loadTransactions(Map<String, TransactionRequest<LoadTransactions>> loadTransactionsRequests) {
+        if (loadTransactionsRequests.size() < 2) {
+            return OnlineBankingService.super.loadTransactions(loadTransactionsRequests);
+        }
+
+        HbciConsent hbciConsent =
+            (HbciConsent) loadTransactionsRequests.values().iterator().next().getBankApiConsentData();
+        if (hbciConsent.getHbciTanSubmit() != null && hbciConsent.getStatus() != FINALISED) {
+            //pending authorisation belongs to a single account
+            return OnlineBankingService.super.loadTransactions(loadTransactionsRequests);
+        }
+
+        List<String> accountIds = new ArrayList<>(loadTransactionsRequests.keySet());
+        List<AbstractResponse> responses =
+            executeBatch(new ArrayList<>(loadTransactionsRequests.values())).getResponses();
+
+        TransactionsBatchResponse batchResponse = new TransactionsBatchResponse();
+        for (int i = 0; i < responses.size(); i++) {
+            AbstractResponse response = responses.get(i);
+            if (response == null || response.getAuthorisationCodeResponse() != null) {
+                batchResponse.getNotLoadedAccountIds().add(accountIds.get(i));
+            } else {
+                batchResponse.getTransactionsResponses().put(accountIds.get(i), (TransactionsResponse) response);
+            }
+        }
+        return batchResponse;
+    }
+
     @Override
     public StandingOrdersResponse loadStandingOrders(TransactionRequest<LoadStandingOrders> loadStandingOrdersRequest) {
         HbciConsent hbciConsent = (HbciConsent) loadStandingOrdersRequest.getBankApiConsentData();
@@ -179,7 +231,7 @@ public class HbciBanking implements OnlineBankingService {
             if (hbciConsent.getHbciTanSubmit() == null || hbciConsent.getStatus() == FINALISED) {
                 HbciBpdUpdCallback hbciCallback = createCallback(loadStandingOrdersRequest.getBank());
 
-                LoadStandingOrdersJob loadStandingOrdersJob = new LoadStandingOrdersJob(loadStandingOrdersRequest);
+                LoadStandingOrdersJob loadStandingOrdersJob = new LoadStandingOrdersJob(loadStandingOrdersRequest, jobContext);
                 StandingOrdersResponse response = loadStandingOrdersJob.execute(hbciCallback);
                 response.setBankApiConsentData(hbciCallback.updateConsentUpd(hbciConsent));
                 return response;
@@ -205,7 +257,7 @@ public class HbciBanking implements OnlineBankingService {
             if (hbciConsent.getHbciTanSubmit() == null || hbciConsent.getStatus() == FINALISED) {
                 HbciBpdUpdCallback hbciCallback = createCallback(request.getBank());
 
-                LoadBalancesJob loadBalancesJob = new LoadBalancesJob(request);
+                LoadBalancesJob loadBalancesJob = new LoadBalancesJob(request, jobContext);
                 LoadBalancesResponse response = loadBalancesJob.execute(hbciCallback);
                 response.setBankApiConsentData(hbciCallback.updateConsentUpd(hbciConsent));
                 return response;
@@ -250,6 +302,33 @@ public class HbciBanking implements OnlineBankingService {
         }
     }
 
+    /**
+     * Executes the requests of one consent with one dialog, the tasks of the requests not needing sca are sent in a
+     * single message. Requests waiting for a transaction authorisation are not supported. Only used for the
+     * transactions of several accounts, the account sync loads no separate balances or standing orders.
+     */
+    private BatchJob.BatchResponse executeBatch(List<TransactionRequest<? extends AbstractTransaction>> requests) {
+        TransactionRequest<? extends AbstractTransaction> leadingRequest = requests.get(0);
+        HbciConsent hbciConsent = (HbciConsent) leadingRequest.getBankApiConsentData();
+        hbciConsent.checkUpdSysIdCache(sysIdExpirationTimeMs, updExpirationTimeMs);
+
+        try {
+            HbciBpdUpdCallback hbciCallback = createCallback(leadingRequest.getBank());
+
+            List<ScaAwareJob<?, ?>> jobs = requests.stream()
+                .<ScaAwareJob<?, ?>>map(request -> createScaJob(request))
+                .collect(Collectors.toList());
+
+            BatchJob.BatchResponse batchResponse = new BatchJob(jobs).execute(hbciCallback);
+            batchResponse.getResponses().stream()
+                .filter(Objects::nonNull)
+                .forEach(response -> response.setBankApiConsentData(hbciCallback.updateConsentUpd(hbciConsent)));
+            return batchResponse;
+        } catch (HBCI_Exception e) {
+            throw handleHbciException(e);
+        }
+    }
+
     @Override
     public StrongCustomerAuthorisable getStrongCustomerAuthorisation() {
         return hbciScaHandler;
@@ -289,38 +368,42 @@ public class HbciBanking implements OnlineBankingService {
             case SINGLE_PAYMENT:
             case FUTURE_SINGLE_PAYMENT:
             case INSTANT_PAYMENT:
-                return (ScaAwareJob<T, R>) new SinglePaymentJob((TransactionRequest<SinglePayment>) transactionRequest);
+                return (ScaAwareJob<T, R>) new SinglePaymentJob((TransactionRequest<SinglePayment>) transactionRequest, jobContext);
             case TRANSFER_PAYMENT:
-                return (ScaAwareJob<T, R>) new TransferJob((TransactionRequest<SinglePayment>) transactionRequest);
+                return (ScaAwareJob<T, R>) new TransferJob((TransactionRequest<SinglePayment>) transactionRequest, jobContext);
             case FOREIGN_PAYMENT:
-                return (ScaAwareJob<T, R>) new ForeignPaymentJob((TransactionRequest<ForeignPayment>) transactionRequest);
+                return (ScaAwareJob<T, R>) new ForeignPaymentJob((TransactionRequest<ForeignPayment>) transactionRequest, jobContext);
             case BULK_PAYMENT:
             case FUTURE_BULK_PAYMENT:
-                return (ScaAwareJob<T, R>) new BulkPaymentJob((TransactionRequest<BulkPayment>) transactionRequest);
+                return (ScaAwareJob<T, R>) new BulkPaymentJob((TransactionRequest<BulkPayment>) transactionRequest, jobContext);
             case STANDING_ORDER:
-                return (ScaAwareJob<T, R>) new PeriodicPaymentJob((TransactionRequest<PeriodicPayment>) transactionRequest);
+                return (ScaAwareJob<T, R>) new PeriodicPaymentJob((TransactionRequest<PeriodicPayment>) transactionRequest, jobContext);
             case RAW_SEPA:
-                return (ScaAwareJob<T, R>) new RawSepaJob((TransactionRequest<RawSepaPayment>) transactionRequest);
+                return (ScaAwareJob<T, R>) new RawSepaJob((TransactionRequest<RawSepaPayment>) transactionRequest, jobContext);
             case FUTURE_SINGLE_PAYMENT_DELETE:
-                return (ScaAwareJob<T, R>) new DeleteFutureSinglePaymentJob((TransactionRequest<FutureSinglePayment>) transactionRequest);
+                return (ScaAwareJob<T, R>) new DeleteFutureSinglePaymentJob((TransactionRequest<FutureSinglePayment>) transactionRequest, jobContext);
             case FUTURE_BULK_PAYMENT_DELETE:
-                return (ScaAwareJob<T, R>) new DeleteFutureBulkPaymentJob((TransactionRequest<FutureBulkPayment>) transactionRequest);
+                return (ScaAwareJob<T, R>) new DeleteFutureBulkPaymentJob((TransactionRequest<FutureBulkPayment>) transactionRequest, jobContext);
             case STANDING_ORDER_DELETE:
-                return (ScaAwareJob<T, R>) new DeleteStandingOrderJob((TransactionRequest<PeriodicPayment>) transactionRequest);
+                return (ScaAwareJob<T, R>) new DeleteStandingOrderJob((TransactionRequest<PeriodicPayment>) transactionRequest, jobContext);
             case TAN_REQUEST:
-                return (ScaAwareJob<T, R>) new TanRequestJob((TransactionRequest<TanRequest>) transactionRequest);
+                return (ScaAwareJob<T, R>) new TanRequestJob((TransactionRequest<TanRequest>) transactionRequest, jobContext);
             case LOAD_BANKACCOUNTS:
-                return (ScaAwareJob<T, R>) new AccountInformationJob((TransactionRequest<LoadAccounts>) transactionRequest);
+                return (ScaAwareJob<T, R>) new AccountInformationJob((TransactionRequest<LoadAccounts>) transactionRequest, jobContext);
             case LOAD_BALANCES:
-                return (ScaAwareJob<T, R>) new LoadBalancesJob((TransactionRequest<LoadBalances>) transactionRequest);
+                return (ScaAwareJob<T, R>) new LoadBalancesJob((TransactionRequest<LoadBalances>) transactionRequest, jobContext);
             case LOAD_TRANSACTIONS:
-                return (ScaAwareJob<T, R>) new LoadTransactionsJob((TransactionRequest<LoadTransactions>) transactionRequest);
+                return (ScaAwareJob<T, R>) new LoadTransactionsJob((TransactionRequest<LoadTransactions>) transactionRequest, jobContext);
             case LOAD_STANDING_ORDERS:
-                return (ScaAwareJob<T, R>) new LoadStandingOrdersJob((TransactionRequest<LoadStandingOrders>) transactionRequest);
+                return (ScaAwareJob<T, R>) new LoadStandingOrdersJob((TransactionRequest<LoadStandingOrders>) transactionRequest, jobContext);
             case GET_PAYMENT_STATUS:
-                return (ScaAwareJob<T, R>) new InstantPaymentStatusJob((TransactionRequest<PaymentStatusReqest>) transactionRequest);
+                return (ScaAwareJob<T, R>) new InstantPaymentStatusJob((TransactionRequest<PaymentStatusReqest>) transactionRequest, jobContext);
             default:
                 throw new IllegalArgumentException("invalid transaction type " + transactionRequest.getTransaction().getTransactionType());
         }
     }
+
+    private HbciBpdUpdCallback createCallback(Bank bank) {
+        return jobContext.getCacheHandler().createCallback(bank);
+    }
 }
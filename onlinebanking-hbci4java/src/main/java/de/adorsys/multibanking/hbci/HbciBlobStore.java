@@ -0,0 +1,31 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.multibanking.hbci;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Content addressed store for parameter data like the UPD, consents only keep the hash of their parameter data.
+ */
+public interface HbciBlobStore {
+
+    Optional<Map<String, String>> load(String hash);
+
+    void store(String hash, Map<String, String> data);
+
+}
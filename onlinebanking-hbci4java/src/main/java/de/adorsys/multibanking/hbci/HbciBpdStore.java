@@ -0,0 +1,33 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.multibanking.hbci;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Shared store for bank parameter data, lets several nodes reuse the BPD fetched by one of them and keeps it across
+ * restarts.
+ */
+public interface HbciBpdStore {
+
+    Optional<Map<String, String>> load(String bankCode);
+
+    void store(String bankCode, String bpdVersion, Map<String, String> bpd, LocalDateTime updateTime);
+
+}
@@ -39,7 +39,7 @@ import static de.adorsys.multibanking.domain.exception.MultibankingError.INVALID
 public class HbciBpdUpdCallback extends AbstractHBCICallback {
 
     private final String bankCode;
-    private final Map<String, Map<String, String>> bpdCache;
+    private final HbciCacheHandler cacheHandler;
     private Map<String, String> upd;
     private String sysId;
 
@@ -47,7 +47,7 @@ public class HbciBpdUpdCallback extends AbstractHBCICallback {
     @Override
     public void status(int statusTag, Object o) {
         if (statusTag == STATUS_INST_BPD_INIT_DONE) {
-            Optional.of(bpdCache).ifPresent(cache -> cache.put(bankCode, (Map<String, String>) o));
+            cacheHandler.updateBpd(bankCode, (Map<String, String>) o);
         } else if (statusTag == STATUS_INIT_UPD_DONE) {
             this.upd = (Map<String, String>) o;
         }
@@ -80,7 +80,9 @@ public class HbciBpdUpdCallback extends AbstractHBCICallback {
 
     public HbciConsent updateConsentUpd(HbciConsent consent) {
         Optional.ofNullable(upd).ifPresent(newUpd -> {
-            consent.setHbciUpd(newUpd);
+            String updHash = cacheHandler.storeBlob(newUpd);
+            consent.setHbciUpdHash(updHash);
+            consent.setHbciUpd(updHash == null ? newUpd : null);
             consent.setUpdCacheUpdateTime(LocalDateTime.now());
             consent.setSysIdUpdUpdated(true);
         });
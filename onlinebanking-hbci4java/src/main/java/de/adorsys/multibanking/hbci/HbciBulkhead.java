@@ -0,0 +1,152 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.multibanking.hbci;
+
+import de.adorsys.multibanking.domain.Bank;
+import de.adorsys.multibanking.domain.exception.MultibankingException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.kapott.hbci.manager.BankInfo;
+import org.kapott.hbci.manager.HBCIUtils;
+
+import java.net.URI;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+import static de.adorsys.multibanking.domain.exception.MultibankingError.HBCI_ERROR;
+
+/**
+ * Limits the parallel hbci jobs per bank host. Waiting jobs are served in arrival order, jobs are rejected if too
+ * many jobs are already waiting or the wait time is exceeded.
+ */
+@Slf4j
+public class HbciBulkhead {
+
+    private final Map<String, Compartment> compartments = new ConcurrentHashMap<>();
+    //nested jobs of the same thread, e.g. balances of loaded accounts, already hold a permit
+    private final ThreadLocal<Set<String>> heldHosts = ThreadLocal.withInitial(HashSet::new);
+
+    private final int maxConcurrentJobs;
+    private final int maxQueuedJobs;
+    private final long maxWaitTimeMs;
+    private final BiConsumer<String, Long> queueTimeListener;
+
+    /**
+     * @param maxConcurrent     max parallel jobs per bank host, 0 disables the bulkhead
+     * @param maxQueued         max waiting jobs per bank host
+     * @param maxWaitMs         max wait time of a job
+     * @param queueTimeListener receives bank host and wait time in ms of every admitted job, may be null
+     */
+    public HbciBulkhead(int maxConcurrent, int maxQueued, long maxWaitMs,
+                        BiConsumer<String, Long> queueTimeListener) {
+        this.maxConcurrentJobs = maxConcurrent;
+        this.maxQueuedJobs = maxQueued;
+        this.maxWaitTimeMs = maxWaitMs;
+        this.queueTimeListener = queueTimeListener;
+    }
+
+    public <T> T execute(Bank bank, Supplier<T> job) {
+        String bankHost = getBankHost(bank);
+        if (maxConcurrentJobs <= 0 || heldHosts.get().contains(bankHost)) {
+            return job.get();
+        }
+
+        Compartment compartment = compartments.computeIfAbsent(bankHost,
+            host -> new Compartment(new Semaphore(maxConcurrentJobs, true)));
+        acquire(bankHost, compartment);
+        heldHosts.get().add(bankHost);
+        try {
+            return job.get();
+        } finally {
+            heldHosts.get().remove(bankHost);
+            compartment.permits.release();
+        }
+    }
+
+    private void acquire(String bankHost, Compartment compartment) {
+        //the timed variant honours the fairness, the untimed tryAcquire would overtake waiting jobs
+        if (tryAcquire(bankHost, compartment, 0)) {
+            notifyQueueTime(bankHost, 0);
+            return;
+        }
+
+        if (compartment.waiting.incrementAndGet() > maxQueuedJobs) {
+            compartment.waiting.decrementAndGet();
+            throw rejected(bankHost);
+        }
+
+        long start = System.currentTimeMillis();
+        try {
+            if (!tryAcquire(bankHost, compartment, maxWaitTimeMs)) {
+                throw rejected(bankHost);
+            }
+        } finally {
+            compartment.waiting.decrementAndGet();
+        }
+        notifyQueueTime(bankHost, System.currentTimeMillis() - start);
+    }
+
+    private boolean tryAcquire(String bankHost, Compartment compartment, long waitTimeMs) {
+        try {
+            return compartment.permits.tryAcquire(waitTimeMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw rejected(bankHost);
+        }
+    }
+
+    private void notifyQueueTime(String bankHost, long queueTimeMs) {
+        Optional.ofNullable(queueTimeListener)
+            .ifPresent(listener -> listener.accept(bankHost, queueTimeMs));
+    }
+
+    private MultibankingException rejected(String bankHost) {
+        log.warn("too many hbci jobs for bank host [{}]", bankHost);
+        return new MultibankingException(HBCI_ERROR, 503, "bank is busy, please try again later");
+    }
+
+    private String getBankHost(Bank bank) {
+        return Optional.ofNullable(HBCIUtils.getBankInfo(bank.getBankCode()))
+            .map(BankInfo::getPinTanAddress)
+            .map(this::getHost)
+            .orElse(bank.getBankCode());
+    }
+
+    private String getHost(String pinTanAddress) {
+        try {
+            return Optional.ofNullable(URI.create(pinTanAddress).getHost())
+                .orElse(pinTanAddress);
+        } catch (IllegalArgumentException e) {
+            return pinTanAddress;
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class Compartment {
+
+        private final Semaphore permits;
+        private final AtomicInteger waiting = new AtomicInteger();
+    }
+}
@@ -19,29 +19,162 @@ package de.adorsys.multibanking.hbci;
 import de.adorsys.multibanking.domain.Bank;
 import de.adorsys.multibanking.domain.request.AbstractRequest;
 import lombok.Getter;
-import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.kapott.hbci.passport.PinTanPassport;
 
-import java.util.Map;
-import java.util.Optional;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 
-@UtilityClass
+@Slf4j
 public class HbciCacheHandler {
 
+    private static final String BPD_KEY_VERSION = "BPA.version";
+    private static final int BLOB_CACHE_SIZE = 1000;
+
     @Getter
     private final Map<String, Map<String, String>> bpdCache = new ConcurrentHashMap<>();
 
+    //deduplicated parameter data by content hash, least recently used blobs are evicted
+    private final Map<String, Map<String, String>> blobCache = Collections.synchronizedMap(
+        new LinkedHashMap<String, Map<String, String>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Map<String, String>> eldest) {
+                return size() > BLOB_CACHE_SIZE;
+            }
+        });
+
+    private final HbciBpdStore bpdStore;
+    private final long bpdExpirationTimeMs;
+    private final HbciBlobStore blobStore;
+
+    /**
+     * @param bpdStore            shared bpd store, null keeps the bpd in this node only
+     * @param bpdExpirationTimeMs max age of a bpd used without a bpd dialog, 0 disables the reuse
+     * @param blobStore           content addressed parameter data store, null keeps the upd within the consent
+     */
+    public HbciCacheHandler(HbciBpdStore bpdStore, long bpdExpirationTimeMs, HbciBlobStore blobStore) {
+        this.bpdStore = bpdStore;
+        this.bpdExpirationTimeMs = bpdExpirationTimeMs;
+        this.blobStore = blobStore;
+    }
+
+    /**
+     * Stores the parameter data by its content hash.
+     *
+     * @return the content hash, null without blob store
+     */
+    public String storeBlob(Map<String, String> data) {
+        if (blobStore == null) {
+            return null;
+        }
+
+        String hash = hash(data);
+        if (blobCache.putIfAbsent(hash, data) == null) {
+            try {
+                blobStore.store(hash, data);
+            } catch (Exception e) {
+                log.warn("unable to store parameter data [{}]: {}", hash, e.getMessage());
+                blobCache.remove(hash);
+                return null;
+            }
+        }
+        return hash;
+    }
+
+    public Optional<Map<String, String>> loadBlob(String hash) {
+        Map<String, String> data = blobCache.get(hash);
+        if (data != null || blobStore == null) {
+            return Optional.ofNullable(data);
+        }
+
+        try {
+            return blobStore.load(hash)
+                .map(storedData -> Optional.ofNullable(blobCache.putIfAbsent(hash, storedData)).orElse(storedData));
+        } catch (Exception e) {
+            log.warn("unable to load parameter data [{}]: {}", hash, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
     public Map<String, String> getBpd(AbstractRequest request) {
-        String bankCode = Optional.ofNullable(request.getBank().getBankApiBankCode())
-            .orElse(request.getBank().getBankCode());
+        return bpdCache.get(getBankCode(request.getBank()));
+    }
+
+    /**
+     * Returns the cached or stored bpd of the bank if it is younger than the configured expiration time. The bank
+     * still checks the bpd version on dialog init and sends an updated bpd if needed.
+     */
+    public Optional<Map<String, String>> getFreshBpd(Bank bank) {
+        if (bpdExpirationTimeMs <= 0) {
+            return Optional.empty();
+        }
+
+        String bankCode = getBankCode(bank);
+        Optional<Map<String, String>> bpd = Optional.ofNullable(bpdCache.get(bankCode))
+            .filter(this::isFresh);
+        if (bpd.isPresent() || bpdStore == null) {
+            return bpd;
+        }
 
-        return bpdCache.get(bankCode);
+        try {
+            bpd = bpdStore.load(bankCode)
+                .filter(this::isFresh);
+        } catch (Exception e) {
+            log.warn("unable to load bpd for bank [{}] from store: {}", bankCode, e.getMessage());
+            return Optional.empty();
+        }
+        bpd.ifPresent(storedBpd -> bpdCache.put(bankCode, storedBpd));
+        return bpd;
+    }
+
+    void updateBpd(String bankCode, Map<String, String> bpd) {
+        Map<String, String> previousBpd = bpdCache.put(bankCode, bpd);
+        if (bpdStore == null || previousBpd == bpd) {
+            return;
+        }
+
+        try {
+            bpdStore.store(bankCode, bpd.get(BPD_KEY_VERSION), bpd, LocalDateTime.ofInstant(
+                Instant.ofEpochMilli(getLastUpdate(bpd)), ZoneId.systemDefault()));
+        } catch (Exception e) {
+            log.warn("unable to store bpd for bank [{}]: {}", bankCode, e.getMessage());
+        }
+    }
+
+    /**
+     * Marks the bpd as up to date after the bank confirmed its version in a bpd dialog.
+     */
+    public void refreshBpd(Bank bank, Map<String, String> bpd) {
+        Map<String, String> refreshedBpd = new HashMap<>(bpd);
+        refreshedBpd.put(PinTanPassport.BPD_KEY_LASTUPDATE, String.valueOf(System.currentTimeMillis()));
+        updateBpd(getBankCode(bank), refreshedBpd);
     }
 
     HbciBpdUpdCallback createCallback(Bank bank) {
-        String bankCode = Optional.ofNullable(bank.getBankApiBankCode())
-            .orElse(bank.getBankCode());
+        return new HbciBpdUpdCallback(getBankCode(bank), this);
+    }
 
-        return new HbciBpdUpdCallback(bankCode, bpdCache);
+    private boolean isFresh(Map<String, String> bpd) {
+        return System.currentTimeMillis() - getLastUpdate(bpd) < bpdExpirationTimeMs;
+    }
+
+    private long getLastUpdate(Map<String, String> bpd) {
+        return NumberUtils.toLong(bpd.get(PinTanPassport.BPD_KEY_LASTUPDATE));
+    }
+
+    private String hash(Map<String, String> data) {
+        StringBuilder content = new StringBuilder();
+        new TreeMap<>(data).forEach((key, value) -> content.append(key).append('\u0000').append(value).append('\u0001'));
+        return DigestUtils.sha256Hex(content.toString());
+    }
+
+    private String getBankCode(Bank bank) {
+        return Optional.ofNullable(bank.getBankApiBankCode())
+            .orElse(bank.getBankCode());
     }
 }
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.multibanking.hbci;
+
+import de.adorsys.multibanking.domain.Bank;
+import de.adorsys.multibanking.domain.Credentials;
+import de.adorsys.multibanking.hbci.model.HbciDialogSession;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps initialised jobs dialogs open for a short idle time, so consecutive jobs of one consent skip dialog init and
+ * dialog end. A session is used by one job at a time, it is removed on borrow and put back on release.
+ */
+@Slf4j
+public class HbciDialogSessionManager {
+
+    //ends the expired dialogs even if no further job of the bank access comes in
+    private static final ScheduledExecutorService SWEEP_EXECUTOR =
+        Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "hbci-dialog-sweep");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+    private final Map<String, HbciDialogSession> openSessions = new ConcurrentHashMap<>();
+    private final long idleTimeMs;
+    private final ScheduledFuture<?> sweep;
+
+    /**
+     * @param dialogIdleTimeMs max idle time of an open dialog, 0 ends every dialog after its job
+     */
+    public HbciDialogSessionManager(long dialogIdleTimeMs) {
+        idleTimeMs = dialogIdleTimeMs;
+        sweep = isEnabled()
+            ? SWEEP_EXECUTOR.scheduleWithFixedDelay(this::endExpiredSessions, idleTimeMs, idleTimeMs,
+            TimeUnit.MILLISECONDS)
+            : null;
+    }
+
+    /**
+     * Stops the sweep and ends all open dialogs.
+     */
+    public void close() {
+        Optional.ofNullable(sweep)
+            .ifPresent(scheduledSweep -> scheduledSweep.cancel(false));
+        openSessions.forEach((sessionKey, session) -> {
+            if (openSessions.remove(sessionKey, session)) {
+                endDialog(session);
+            }
+        });
+    }
+
+    public boolean isEnabled() {
+        return idleTimeMs > 0;
+    }
+
+    public HbciDialogSession createSession(Bank bank, Credentials credentials) {
+        return new HbciDialogSession(getSessionKey(bank, credentials), credentials.getPin());
+    }
+
+    public Optional<HbciDialogSession> borrow(Bank bank, Credentials credentials) {
+        endExpiredSessions();
+        if (!isEnabled()) {
+            return Optional.empty();
+        }
+
+        String sessionKey = getSessionKey(bank, credentials);
+        HbciDialogSession session = openSessions.remove(sessionKey);
+        if (session == null) {
+            return Optional.empty();
+        }
+        //the dialog is authenticated, never hand it out without the same pin
+        if (!StringUtils.equals(session.getPin(), credentials.getPin())) {
+            openSessions.putIfAbsent(sessionKey, session);
+            return Optional.empty();
+        }
+
+        log.debug("reuse open hbci dialog [{}]", session.getDialog().getDialogId());
+        return Optional.of(session);
+    }
+
+    public void release(HbciDialogSession session) {
+        session.getCallback().setDelegate(null);
+        if (!isEnabled()) {
+            endDialog(session);
+            return;
+        }
+
+        session.setLastUsed(System.currentTimeMillis());
+        Optional.ofNullable(openSessions.put(session.getKey(), session))
+            .filter(replacedSession -> replacedSession != session)
+            .ifPresent(this::endDialog);
+        endExpiredSessions();
+    }
+
+    /**
+     * Ends a borrowed dialog which is no longer usable, it is not put back.
+     */
+    public void discard(HbciDialogSession session) {
+        session.getCallback().setDelegate(null);
+        endDialog(session);
+    }
+
+    private void endExpiredSessions() {
+        long now = System.currentTimeMillis();
+        openSessions.forEach((sessionKey, session) -> {
+            if (now - session.getLastUsed() >= idleTimeMs && openSessions.remove(sessionKey, session)) {
+                endDialog(session);
+            }
+        });
+    }
+
+    private void endDialog(HbciDialogSession session) {
+        try {
+            session.getDialog().dialogEnd();
+        } catch (Exception e) {
+            log.warn("unable to end hbci dialog [{}]: {}", session.getDialog().getDialogId(), e.getMessage());
+        }
+    }
+
+    private String getSessionKey(Bank bank, Credentials credentials) {
+        String bankCode = Optional.ofNullable(bank.getBankApiBankCode())
+            .orElse(bank.getBankCode());
+
+        return bankCode + ":" + credentials.getUserId() + ":" + credentials.getCustomerId();
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.multibanking.hbci;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Parameter data caches, open dialogs and bulkhead of one hbci adapter, shared by its jobs.
+ */
+@Getter
+@RequiredArgsConstructor
+public class HbciJobContext {
+
+    private final HbciCacheHandler cacheHandler;
+    private final HbciDialogSessionManager dialogSessionManager;
+    private final HbciBulkhead bulkhead;
+
+}
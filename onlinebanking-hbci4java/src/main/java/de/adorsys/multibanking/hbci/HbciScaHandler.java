@@ -16,6 +16,7 @@
 
 package de.adorsys.multibanking.hbci;
 
+import de.adorsys.multibanking.domain.Bank;
 import de.adorsys.multibanking.domain.Consent;
 import de.adorsys.multibanking.domain.ConsentStatus;
 import de.adorsys.multibanking.domain.ScaStatus;
@@ -54,7 +55,6 @@ import static de.adorsys.multibanking.domain.ScaApproach.EMBEDDED;
 import static de.adorsys.multibanking.domain.ScaStatus.*;
 import static de.adorsys.multibanking.domain.exception.MultibankingError.BANK_NOT_SUPPORTED;
 import static de.adorsys.multibanking.domain.exception.MultibankingError.INVALID_SCA_METHOD;
-import static de.adorsys.multibanking.hbci.HbciCacheHandler.*;
 import static de.adorsys.multibanking.hbci.model.HbciDialogType.BPD;
 import static de.adorsys.multibanking.hbci.model.HbciDialogType.UPD;
 import static de.adorsys.multibanking.hbci.util.HbciErrorUtils.*;
@@ -66,6 +66,7 @@ public class HbciScaHandler implements StrongCustomerAuthorisable {
     private final HBCIProduct hbciProduct;
     private final long sysIdExpirationTimeMs;
     private final long updExpirationTimeMs;
+    private final HbciJobContext jobContext;
 
     private final HbciScaMapper hbciScaMapper = new HbciScaMapperImpl();
     private final HbciDialogRequestMapper hbciDialogRequestMapper = new HbciDialogRequestMapperImpl();
@@ -222,7 +223,7 @@ public class HbciScaHandler implements StrongCustomerAuthorisable {
 
             HbciBpdUpdCallback hbciCallback = createCallback(request.getBank());
 
-            InstantPaymentStatusJob instantPaymentStatusJob = new InstantPaymentStatusJob(request);
+            InstantPaymentStatusJob instantPaymentStatusJob = new InstantPaymentStatusJob(request, jobContext);
             PaymentStatusResponse response = instantPaymentStatusJob.execute(hbciCallback);
             response.setBankApiConsentData(hbciCallback.updateConsentUpd(hbciConsent));
 
@@ -233,12 +234,14 @@ public class HbciScaHandler implements StrongCustomerAuthorisable {
     }
 
     private HBCIExecStatus fetchBpd(HbciDialogRequest dialogRequest) {
-        AbstractHbciDialog dialog = HbciDialogFactory.createDialog(BPD, dialogRequest, null);
+        AbstractHbciDialog dialog = HbciDialogFactory.createDialog(BPD, dialogRequest, null,
+            jobContext.getCacheHandler());
         return dialog.execute(true);
     }
 
     private PinTanPassport fetchUpd(HbciDialogRequest dialogRequest, boolean withHktan) {
-        HBCIUpdDialog dialog = (HBCIUpdDialog) HbciDialogFactory.createDialog(UPD, dialogRequest, null);
+        HBCIUpdDialog dialog = (HBCIUpdDialog) HbciDialogFactory.createDialog(UPD, dialogRequest, null,
+            jobContext.getCacheHandler());
         dialog.setWithHktan(withHktan);
         dialog.execute(true);
 
@@ -284,4 +287,8 @@ public class HbciScaHandler implements StrongCustomerAuthorisable {
             .flatMap(Collection::stream)
             .collect(Collectors.toList());
     }
+
+    private HbciBpdUpdCallback createCallback(Bank bank) {
+        return jobContext.getCacheHandler().createCallback(bank);
+    }
 }
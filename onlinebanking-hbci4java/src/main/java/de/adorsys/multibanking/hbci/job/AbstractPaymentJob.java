@@ -19,6 +19,7 @@ package de.adorsys.multibanking.hbci.job;
 import de.adorsys.multibanking.domain.request.TransactionRequest;
 import de.adorsys.multibanking.domain.response.PaymentResponse;
 import de.adorsys.multibanking.domain.transaction.AbstractPayment;
+import de.adorsys.multibanking.hbci.HbciJobContext;
 import org.kapott.hbci.GV.AbstractHBCIJob;
 import org.kapott.hbci.GV_Result.HBCIJobResult;
 
@@ -26,8 +27,8 @@ import java.util.Optional;
 
 public abstract class AbstractPaymentJob<T extends AbstractPayment, J extends AbstractHBCIJob> extends ScaAwareJob<T, PaymentResponse> {
 
-    public AbstractPaymentJob(TransactionRequest<T> transactionRequest) {
-        super(transactionRequest);
+    public AbstractPaymentJob(TransactionRequest<T> transactionRequest, HbciJobContext context) {
+        super(transactionRequest, context);
     }
 
     @Override
@@ -24,7 +24,7 @@ import de.adorsys.multibanking.domain.request.TransactionRequestFactory;
 import de.adorsys.multibanking.domain.response.AccountInformationResponse;
 import de.adorsys.multibanking.domain.transaction.LoadAccounts;
 import de.adorsys.multibanking.domain.transaction.LoadBalances;
-import de.adorsys.multibanking.hbci.model.HbciConsent;
+import de.adorsys.multibanking.hbci.HbciJobContext;
 import lombok.extern.slf4j.Slf4j;
 import org.kapott.hbci.GV.GVSEPAInfo;
 import org.kapott.hbci.structures.Konto;
@@ -38,11 +38,8 @@ import static de.adorsys.multibanking.domain.exception.MultibankingError.HBCI_ER
 @Slf4j
 public class AccountInformationJob extends ScaAwareJob<LoadAccounts, AccountInformationResponse> {
 
-    public AccountInformationJob(TransactionRequest<LoadAccounts> transactionRequest) {
-        super(transactionRequest);
-        if (transactionRequest.getTransaction().isWithBalances()) {
-            ((HbciConsent) transactionRequest.getBankApiConsentData()).setCloseDialog(false);
-        }
+    public AccountInformationJob(TransactionRequest<LoadAccounts> transactionRequest, HbciJobContext context) {
+        super(transactionRequest, context);
     }
 
     @Override
@@ -77,7 +74,8 @@ public class AccountInformationJob extends ScaAwareJob<LoadAccounts, AccountInfo
                         TransactionRequestFactory.create(loadBalances, null, transactionRequest.getBankAccess(),
                             transactionRequest.getBank(), transactionRequest.getBankApiConsentData());
 
-                    LoadBalancesJob loadBalancesJob = new LoadBalancesJob(loadBalancesRequest);
+                    //the dialog is closed by this job after the response is created
+                    LoadBalancesJob loadBalancesJob = new LoadBalancesJob(loadBalancesRequest, context);
                     loadBalancesJob.dialog = this.dialog;
                     loadBalancesJob.execute(null);
                 }
@@ -86,11 +84,6 @@ public class AccountInformationJob extends ScaAwareJob<LoadAccounts, AccountInfo
             })
             .collect(Collectors.toList());
 
-        //finally close dialog
-        if (getOrCreateHbciJob().getJobResult().isOK() && transactionRequest.getTransaction().isWithBalances()) {
-            this.dialog.dialogEnd();
-        }
-
         return AccountInformationResponse.builder()
             .bankAccess(transactionRequest.getBankAccess())
             .bankAccounts(result)
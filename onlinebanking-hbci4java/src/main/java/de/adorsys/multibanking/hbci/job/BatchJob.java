@@ -0,0 +1,79 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.multibanking.hbci.job;
+
+import de.adorsys.multibanking.domain.request.TransactionRequest;
+import de.adorsys.multibanking.domain.response.AbstractResponse;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.kapott.hbci.callback.HBCICallback;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sends the tasks of several jobs of one consent, e.g. balances, transactions and standing orders of some accounts,
+ * with one dialog execution. The first job leads the dialog, the tasks of the following jobs are appended to its
+ * message. Jobs needing sca for their task are executed on their own afterwards, once a job needs sca the remaining
+ * jobs are not executed.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class BatchJob {
+
+    private final List<ScaAwareJob<?, ?>> jobs;
+
+    public BatchResponse execute(HBCICallback hbciCallback) {
+        ScaAwareJob<?, ?> leadingJob = jobs.get(0);
+        List<ScaAwareJob<?, ?>> followingJobs = jobs.subList(1, jobs.size());
+        leadingJob.batchedJobs.addAll(followingJobs);
+
+        BatchResponse batchResponse = new BatchResponse();
+        batchResponse.add(leadingJob.execute(hbciCallback));
+
+        followingJobs.forEach(job -> {
+            if (job.batchedResponse != null) {
+                //already executed with the message of the leading job
+                batchResponse.add(job.batchedResponse);
+            } else if (batchResponse.isScaRequired()) {
+                log.debug("sca needed, job [{}] not executed", job.getClass().getSimpleName());
+                batchResponse.add(null);
+                batchResponse.unexecutedRequests.add(job.transactionRequest);
+            } else {
+                batchResponse.add(job.execute(hbciCallback));
+            }
+        });
+        return batchResponse;
+    }
+
+    @Data
+    public static class BatchResponse {
+
+        //responses in the order of the jobs, null for a job not executed
+        private final List<AbstractResponse> responses = new ArrayList<>();
+        private final List<TransactionRequest<?>> unexecutedRequests = new ArrayList<>();
+        private boolean scaRequired;
+
+        private void add(AbstractResponse response) {
+            responses.add(response);
+            if (response != null && response.getAuthorisationCodeResponse() != null) {
+                scaRequired = true;
+            }
+        }
+    }
+}
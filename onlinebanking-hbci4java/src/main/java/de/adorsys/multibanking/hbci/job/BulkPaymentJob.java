@@ -20,6 +20,7 @@ import de.adorsys.multibanking.domain.request.TransactionRequest;
 import de.adorsys.multibanking.domain.transaction.BulkPayment;
 import de.adorsys.multibanking.domain.transaction.FutureBulkPayment;
 import de.adorsys.multibanking.domain.transaction.SinglePayment;
+import de.adorsys.multibanking.hbci.HbciJobContext;
 import org.apache.commons.lang3.BooleanUtils;
 import org.kapott.hbci.GV.GVMultiUebSEPA;
 import org.kapott.hbci.GV.GVTermMultiUebSEPA;
@@ -33,8 +34,8 @@ import static de.adorsys.multibanking.domain.transaction.AbstractTransaction.Tra
 
 public class BulkPaymentJob extends AbstractPaymentJob<BulkPayment, GVUebSEPA> {
 
-    public BulkPaymentJob(TransactionRequest<BulkPayment> transactionRequest) {
-        super(transactionRequest);
+    public BulkPaymentJob(TransactionRequest<BulkPayment> transactionRequest, HbciJobContext context) {
+        super(transactionRequest, context);
     }
 
     @Override
@@ -18,13 +18,14 @@ package de.adorsys.multibanking.hbci.job;
 
 import de.adorsys.multibanking.domain.request.TransactionRequest;
 import de.adorsys.multibanking.domain.transaction.FutureBulkPayment;
+import de.adorsys.multibanking.hbci.HbciJobContext;
 import org.kapott.hbci.GV.GVTermMultiUebSEPADel;
 import org.kapott.hbci.GV_Result.HBCIJobResult;
 
 public class DeleteFutureBulkPaymentJob extends AbstractPaymentJob<FutureBulkPayment, GVTermMultiUebSEPADel> {
 
-    public DeleteFutureBulkPaymentJob(TransactionRequest<FutureBulkPayment> transactionRequest) {
-        super(transactionRequest);
+    public DeleteFutureBulkPaymentJob(TransactionRequest<FutureBulkPayment> transactionRequest, HbciJobContext context) {
+        super(transactionRequest, context);
     }
 
     @Override
@@ -18,6 +18,7 @@ package de.adorsys.multibanking.hbci.job;
 
 import de.adorsys.multibanking.domain.request.TransactionRequest;
 import de.adorsys.multibanking.domain.transaction.FutureSinglePayment;
+import de.adorsys.multibanking.hbci.HbciJobContext;
 import org.kapott.hbci.GV.GVTermUebSEPADel;
 import org.kapott.hbci.GV_Result.HBCIJobResult;
 import org.kapott.hbci.structures.Konto;
@@ -27,8 +28,8 @@ public class DeleteFutureSinglePaymentJob extends AbstractPaymentJob<FutureSingl
 
     private String jobName;
 
-    public DeleteFutureSinglePaymentJob(TransactionRequest<FutureSinglePayment> transactionRequest) {
-        super(transactionRequest);
+    public DeleteFutureSinglePaymentJob(TransactionRequest<FutureSinglePayment> transactionRequest, HbciJobContext context) {
+        super(transactionRequest, context);
     }
 
     @Override
@@ -20,6 +20,7 @@ import de.adorsys.multibanking.domain.PaymentStatus;
 import de.adorsys.multibanking.domain.request.TransactionRequest;
 import de.adorsys.multibanking.domain.response.PaymentStatusResponse;
 import de.adorsys.multibanking.domain.transaction.PaymentStatusReqest;
+import de.adorsys.multibanking.hbci.HbciJobContext;
 import lombok.extern.slf4j.Slf4j;
 import org.kapott.hbci.GV.GVInstanstUebSEPAStatus;
 import org.kapott.hbci.GV_Result.GVRInstantUebSEPAStatus;
@@ -30,8 +31,8 @@ public class InstantPaymentStatusJob extends ScaAwareJob<PaymentStatusReqest, Pa
 
     private GVInstanstUebSEPAStatus paymentStatusHbciJob;
 
-    public InstantPaymentStatusJob(TransactionRequest<PaymentStatusReqest> transactionRequest) {
-        super(transactionRequest);
+    public InstantPaymentStatusJob(TransactionRequest<PaymentStatusReqest> transactionRequest, HbciJobContext context) {
+        super(transactionRequest, context);
     }
 
     @Override
@@ -22,6 +22,7 @@ import de.adorsys.multibanking.domain.exception.MultibankingException;
 import de.adorsys.multibanking.domain.request.TransactionRequest;
 import de.adorsys.multibanking.domain.response.TransactionsResponse;
 import de.adorsys.multibanking.domain.transaction.LoadTransactions;
+import de.adorsys.multibanking.hbci.HbciJobContext;
 import de.adorsys.multibanking.hbci.util.HbciErrorUtils;
 import lombok.extern.slf4j.Slf4j;
 import org.kapott.hbci.GV.AbstractHBCIJob;
@@ -43,8 +44,8 @@ import static de.adorsys.multibanking.domain.transaction.LoadTransactions.RawRes
 @Slf4j
 public class LoadTransactionsJob extends ScaAwareJob<LoadTransactions, TransactionsResponse> {
 
-    public LoadTransactionsJob(TransactionRequest<LoadTransactions> transactionRequest) {
-        super(transactionRequest);
+    public LoadTransactionsJob(TransactionRequest<LoadTransactions> transactionRequest, HbciJobContext context) {
+        super(transactionRequest, context);
     }
 
     @Override
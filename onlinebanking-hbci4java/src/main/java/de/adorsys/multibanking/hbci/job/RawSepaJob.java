@@ -18,6 +18,7 @@ package de.adorsys.multibanking.hbci.job;
 
 import de.adorsys.multibanking.domain.request.TransactionRequest;
 import de.adorsys.multibanking.domain.transaction.RawSepaPayment;
+import de.adorsys.multibanking.hbci.HbciJobContext;
 import org.apache.commons.lang3.math.NumberUtils;
 import org.kapott.hbci.GV.GVDauerSEPANew;
 import org.kapott.hbci.GV.GVInstantUebSEPA;
@@ -37,8 +38,8 @@ import java.util.Map;
 
 public class RawSepaJob extends AbstractPaymentJob<RawSepaPayment, GVRawSEPA> {
 
-    public RawSepaJob(TransactionRequest<RawSepaPayment> transactionRequest) {
-        super(transactionRequest);
+    public RawSepaJob(TransactionRequest<RawSepaPayment> transactionRequest, HbciJobContext context) {
+        super(transactionRequest, context);
     }
 
     @Override
@@ -18,12 +18,14 @@ package de.adorsys.multibanking.hbci.job;
 
 import de.adorsys.multibanking.domain.BankAccount;
 import de.adorsys.multibanking.domain.ChallengeData;
+import de.adorsys.multibanking.domain.Message;
 import de.adorsys.multibanking.domain.exception.MultibankingException;
 import de.adorsys.multibanking.domain.request.TransactionRequest;
 import de.adorsys.multibanking.domain.response.AbstractResponse;
 import de.adorsys.multibanking.domain.response.AuthorisationCodeResponse;
 import de.adorsys.multibanking.domain.response.UpdateAuthResponse;
 import de.adorsys.multibanking.domain.transaction.AbstractTransaction;
+import de.adorsys.multibanking.hbci.HbciJobContext;
 import de.adorsys.multibanking.hbci.model.*;
 import de.adorsys.multibanking.hbci.util.HbciErrorUtils;
 import de.adorsys.multibanking.mapper.AccountStatementMapper;
@@ -46,7 +48,9 @@ import org.kapott.hbci.status.HBCIExecStatus;
 import org.kapott.hbci.status.HBCIMsgStatus;
 import org.kapott.hbci.structures.Konto;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -65,7 +69,15 @@ public abstract class ScaAwareJob<T extends AbstractTransaction, R extends Abstr
     private static final HbciDialogRequestMapper hbciDialogRequestMapper = new HbciDialogRequestMapperImpl();
 
     final TransactionRequest<T> transactionRequest;
+    final HbciJobContext context;
     HBCIJobsDialog dialog;
+    //dialog initialised or borrowed by this job, a dialog handed over by another job is closed by that job
+    private boolean dialogOwner;
+    private HbciDialogSession dialogSession;
+
+    //jobs whose tasks are sent in the messages of this job
+    final List<ScaAwareJob<?, ?>> batchedJobs = new ArrayList<>();
+    R batchedResponse;
 
     AbstractHBCIJob hbciJob;
 
@@ -73,11 +85,29 @@ public abstract class ScaAwareJob<T extends AbstractTransaction, R extends Abstr
     private UpdateAuthResponse challenge;
 
     public R execute(HBCICallback hbciCallback) {
+        return context.getBulkhead().execute(transactionRequest.getBank(), () -> executeJob(hbciCallback));
+    }
+
+    private R executeJob(HBCICallback hbciCallback) {
         if (this.dialog == null) {
+            Optional<HbciDialogSession> openSession =
+                context.getDialogSessionManager().borrow(transactionRequest.getBank(), getConsent().getCredentials());
+            if (openSession.isPresent()) {
+                useDialogSession(openSession.get(), hbciCallback);
+                try {
+                    return executeTasks(true);
+                } catch (StaleDialogException e) {
+                    log.debug("open hbci dialog [{}] is no longer valid, init new dialog", dialog.getDialogId());
+                    discardDialogSession();
+                }
+            }
             R jobResponse = initDialog(hbciCallback);
             if (jobResponse != null) return jobResponse; //TAN needed for HKIDN
         }
+        return executeTasks(false);
+    }
 
+    private R executeTasks(boolean reusedDialog) {
         //could be null in case of empty hktan requests
         AbstractHBCIJob newHbciJob = getOrCreateHbciJob();
 
@@ -90,9 +120,13 @@ public abstract class ScaAwareJob<T extends AbstractTransaction, R extends Abstr
         } else {
             //No SCA needed
             dialog.addTask(newHbciJob);
+            addBatchedTasks();
         }
 
-        HBCIExecStatus hbciExecStatus = dialog.execute(false);
+        //jobs without sca only read, they are repeated within a new dialog if the reused dialog is dead
+        HBCIExecStatus hbciExecStatus = reusedDialog && !tan2StepRequired
+            ? executeReusedDialog()
+            : dialog.execute(false);
         checkExecuteStatus(hbciExecStatus);
 
         //check for SCA is really needed after execution
@@ -103,33 +137,141 @@ public abstract class ScaAwareJob<T extends AbstractTransaction, R extends Abstr
 
         R jobResponse = createJobResponse();
         jobResponse.setMessages(HbciErrorUtils.msgStatusListToMessages(hbciExecStatus.getMsgStatusList()));
+        batchedJobs.stream()
+            .filter(batchedJob -> batchedJob.dialog != null)
+            .forEach(batchedJob -> batchedJob.createBatchedResponse(jobResponse.getMessages()));
 
         if (tan2StepRequired) {
             hbciTanSubmit.update(dialog, newHbciJob, getHbciJobName(),
                 getUserTanTransportType(dialog.getPassport().getBankTwostepMechanisms()), getHbciKonto());
             jobResponse.setAuthorisationCodeResponse(new AuthorisationCodeResponse(hbciTanSubmit, challenge));
         } else if (getConsent().isCloseDialog()) { //sca not needed
-            dialog.dialogEnd();
+            closeDialog();
         }
 
         return jobResponse;
     }
 
-    private R initDialog(HBCICallback hbciCallback) {
+    private void addBatchedTasks() {
+        batchedJobs.forEach(batchedJob -> {
+            batchedJob.dialog = dialog;
+            AbstractHBCIJob batchedHbciJob = batchedJob.getOrCreateHbciJob();
+            if (batchedHbciJob != null && !dialog.getPassport().tan2StepRequired(batchedHbciJob)) {
+                dialog.addTask(batchedHbciJob);
+            } else {
+                //sca needed, job must be executed on its own
+                batchedJob.dialog = null;
+                batchedJob.hbciJob = null;
+            }
+        });
+    }
+
+    private void createBatchedResponse(List<Message> messages) {
+        batchedResponse = createJobResponse();
+        batchedResponse.setMessages(messages);
+    }
+
+    private HBCIExecStatus executeReusedDialog() {
+        HBCIExecStatus hbciExecStatus;
+        try {
+            hbciExecStatus = dialog.execute(false);
+        } catch (RuntimeException e) {
+            throw new StaleDialogException(e);
+        }
+        boolean dialogAborted = hbciExecStatus.getMsgStatusList().stream()
+            .flatMap(msgStatus -> msgStatus.globStatus.getRetVals().stream())
+            .anyMatch(hbciRetVal -> hbciRetVal.code.equals("9800"));
+        if (dialogAborted) {
+            throw new StaleDialogException(null);
+        }
+        return hbciExecStatus;
+    }
+
+    /**
+     * Ends or releases the dialog if it was initialised or borrowed by this job, calling it again has no effect.
+     */
+    void closeDialog() {
+        if (!dialogOwner) {
+            return;
+        }
+        if (dialogSession != null) {
+            context.getDialogSessionManager().release(dialogSession);
+        } else {
+            dialog.dialogEnd();
+        }
+        dialogSession = null;
+        dialog = null;
+        dialogOwner = false;
+    }
+
+    /**
+     * Continues the dialog of a previous request of this job, the dialog is closed by this job.
+     */
+    void continueDialog(HBCIJobsDialog hbciDialog) {
+        dialog = hbciDialog;
+        dialogOwner = true;
+    }
+
+    private void useDialogSession(HbciDialogSession session, HBCICallback hbciCallback) {
+        session.getCallback().setDelegate(createCallback(hbciCallback));
+        dialogSession = session;
+        dialog = session.getDialog();
+        dialogOwner = true;
+    }
+
+    private void discardDialogSession() {
+        context.getDialogSessionManager().discard(dialogSession);
+        dialogSession = null;
+        dialog = null;
+        dialogOwner = false;
+        //the jobs were created for the passport of the discarded dialog
+        hbciJob = null;
+        batchedJobs.forEach(batchedJob -> {
+            batchedJob.dialog = null;
+            batchedJob.hbciJob = null;
+        });
+    }
+
+    R initDialog(HBCICallback hbciCallback) {
         log.debug("init new hbci dialog");
-        PinTanPassport bpdPassport = fetchBpd(hbciCallback);
+        Map<String, String> bpd = context.getCacheHandler().getFreshBpd(transactionRequest.getBank())
+            .orElseGet(() -> {
+                PinTanPassport bpdPassport = fetchBpd(hbciCallback);
+                context.getCacheHandler().refreshBpd(transactionRequest.getBank(), bpdPassport.getBPD());
+                return bpdPassport.getBPD();
+            });
 
-        dialog = (HBCIJobsDialog) createDialog(JOBS, hbciCallback, getUserTanTransportType(bpdPassport.getBankTwostepMechanisms()));
-        dialog.getPassport().setBPD(bpdPassport.getBPD());
+        HBCICallback callback = createCallback(hbciCallback);
+        if (context.getDialogSessionManager().isEnabled()) {
+            //keep the dialog open for the following jobs of this consent
+            dialogSession = context.getDialogSessionManager().createSession(transactionRequest.getBank(),
+                getConsent().getCredentials());
+            dialogSession.getCallback().setDelegate(callback);
+            callback = dialogSession.getCallback();
+        }
+
+        dialog = (HBCIJobsDialog) HbciDialogFactory.createDialog(JOBS, createDialogRequest(callback), null,
+            context.getCacheHandler());
+        dialogOwner = true;
+        PinTanPassport passport = dialog.getPassport();
+        passport.setBPD(bpd);
+        //the passport state of the bank access could already provide the sca method
+        if (passport.getCurrentSecMechInfo() == null) {
+            passport.setCurrentSecMechInfo(getUserTanTransportType(passport.getBankTwostepMechanisms()));
+        }
 
         HBCIMsgStatus dialogInitMsgStatus = dialog.dialogInit(getConsent().isWithHktan());
 
         if (checkDialogInitScaRequired(dialogInitMsgStatus)) {
             log.debug("HKIDN SCA required");
+            //dialog is continued by the transaction authorisation
+            dialogSession = null;
             R jobResponse = createJobResponse();
             jobResponse.setAuthorisationCodeResponse(new AuthorisationCodeResponse(hbciTanSubmit, challenge));
             return jobResponse;
         }
+        Optional.ofNullable(dialogSession)
+            .ifPresent(session -> session.setDialog(dialog));
         return null;
     }
 
@@ -181,7 +323,7 @@ public abstract class ScaAwareJob<T extends AbstractTransaction, R extends Abstr
         HBCICallback callback = createCallback(hbciCallback);
         HbciDialogRequest dialogRequest = createDialogRequest(callback);
 
-        return HbciDialogFactory.createDialog(dialogType, dialogRequest, twoStepMechanism);
+        return HbciDialogFactory.createDialog(dialogType, dialogRequest, twoStepMechanism, context.getCacheHandler());
     }
 
     void checkExecuteStatus(HBCIExecStatus execStatus) {
@@ -357,4 +499,11 @@ public abstract class ScaAwareJob<T extends AbstractTransaction, R extends Abstr
 
     abstract R createJobResponse();
 
+    private static class StaleDialogException extends RuntimeException {
+
+        StaleDialogException(Throwable cause) {
+            super(cause);
+        }
+    }
+
 }
@@ -19,6 +19,7 @@ package de.adorsys.multibanking.hbci.job;
 import de.adorsys.multibanking.domain.request.TransactionRequest;
 import de.adorsys.multibanking.domain.transaction.FutureSinglePayment;
 import de.adorsys.multibanking.domain.transaction.SinglePayment;
+import de.adorsys.multibanking.hbci.HbciJobContext;
 import org.kapott.hbci.GV.*;
 import org.kapott.hbci.GV_Result.GVRPayment;
 import org.kapott.hbci.GV_Result.HBCIJobResult;
@@ -29,8 +30,8 @@ import static de.adorsys.multibanking.domain.transaction.AbstractTransaction.Tra
 
 public class SinglePaymentJob extends AbstractPaymentJob<SinglePayment, AbstractHBCIJob> {
 
-    public SinglePaymentJob(TransactionRequest<SinglePayment> transactionRequest) {
-        super(transactionRequest);
+    public SinglePaymentJob(TransactionRequest<SinglePayment> transactionRequest, HbciJobContext context) {
+        super(transactionRequest, context);
     }
 
     @Override
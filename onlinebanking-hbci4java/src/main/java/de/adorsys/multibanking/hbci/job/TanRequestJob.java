@@ -19,14 +19,15 @@ package de.adorsys.multibanking.hbci.job;
 import de.adorsys.multibanking.domain.request.TransactionRequest;
 import de.adorsys.multibanking.domain.response.PaymentResponse;
 import de.adorsys.multibanking.domain.transaction.TanRequest;
+import de.adorsys.multibanking.hbci.HbciJobContext;
 import org.kapott.hbci.GV.AbstractSEPAGV;
 import org.kapott.hbci.GV_Result.HBCIJobResult;
 
 public class TanRequestJob extends AbstractPaymentJob<TanRequest, AbstractSEPAGV> {
 
 
-    public TanRequestJob(TransactionRequest<TanRequest> transactionRequest) {
-        super(transactionRequest);
+    public TanRequestJob(TransactionRequest<TanRequest> transactionRequest, HbciJobContext context) {
+        super(transactionRequest, context);
     }
 
     @Override
@@ -46,7 +46,6 @@ import java.util.Optional;
 import static de.adorsys.multibanking.domain.ScaStatus.FINALISED;
 import static de.adorsys.multibanking.domain.ScaStatus.SCAMETHODSELECTED;
 import static de.adorsys.multibanking.domain.exception.MultibankingError.INTERNAL_ERROR;
-import static de.adorsys.multibanking.hbci.HbciCacheHandler.*;
 
 @Slf4j
 public class TransactionAuthorisationJob<T extends AbstractTransaction, R extends AbstractResponse> {
@@ -70,10 +69,14 @@ public class TransactionAuthorisationJob<T extends AbstractTransaction, R extend
 
         hbciDialog = new HBCIJobsDialog(createPassport(), scaJob.hbciTanSubmit.getDialogId(),
             scaJob.hbciTanSubmit.getMsgNum());
-        scaJob.dialog = hbciDialog;
+        scaJob.continueDialog(hbciDialog);
     }
 
     public TransactionAuthorisationResponse<R> execute() {
+        return scaJob.context.getBulkhead().execute(scaJob.transactionRequest.getBank(), this::executeAuthorisation);
+    }
+
+    private TransactionAuthorisationResponse<R> executeAuthorisation() {
         if (scaJob.hbciTanSubmit.getTwoStepMechanism().getProcess() == 1)
             submitProcess1();
         else
@@ -82,7 +85,7 @@ public class TransactionAuthorisationJob<T extends AbstractTransaction, R extend
         HBCIExecStatus hbciExecStatus = hbciDialog.execute(false);
         if (!hbciExecStatus.isOK()) {
             if (consent.isCloseDialog()) {
-                hbciDialog.dialogEnd();
+                scaJob.closeDialog();
             }
             throw HbciErrorUtils.toMultibankingException(hbciExecStatus.getMsgStatusList());
         }
@@ -96,11 +99,14 @@ public class TransactionAuthorisationJob<T extends AbstractTransaction, R extend
             TransactionAuthorisationResponse<R> response = new TransactionAuthorisationResponse<>(scaJob.execute(null));
             response.setScaStatus(FINALISED);
             return response;
-        } else if (consent.isCloseDialog()) {
-            hbciDialog.dialogEnd();
         }
         scaJob.hbciTanSubmit.setMsgNum(scaJob.hbciTanSubmit.getMsgNum() + 1);
-        return createResponse(hbciExecStatus);
+        TransactionAuthorisationResponse<R> response = createResponse(hbciExecStatus);
+        //after the response, it could still need the dialog, e.g. for the balances of loaded accounts
+        if (consent.isCloseDialog()) {
+            scaJob.closeDialog();
+        }
+        return response;
     }
 
     private void submitProcess1() {
@@ -177,7 +183,7 @@ public class TransactionAuthorisationJob<T extends AbstractTransaction, R extend
 
     private HbciPassport createPassport() {
         Map<String, String> bpd =
-            Optional.ofNullable(getBpd(transactionAuthorisation.getOriginTransactionRequest()))
+            Optional.ofNullable(scaJob.context.getCacheHandler().getBpd(transactionAuthorisation.getOriginTransactionRequest()))
                 .orElseGet(() -> scaJob.fetchBpd(null).getBPD());
 
         HbciPassport.State state = HbciPassport.State.fromJson(scaJob.hbciTanSubmit.getPassportState());
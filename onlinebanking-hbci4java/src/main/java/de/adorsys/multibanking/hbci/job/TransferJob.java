@@ -18,6 +18,7 @@ package de.adorsys.multibanking.hbci.job;
 
 import de.adorsys.multibanking.domain.request.TransactionRequest;
 import de.adorsys.multibanking.domain.transaction.SinglePayment;
+import de.adorsys.multibanking.hbci.HbciJobContext;
 import lombok.extern.slf4j.Slf4j;
 import org.kapott.hbci.GV.GVUmbSEPA;
 import org.kapott.hbci.GV_Result.HBCIJobResult;
@@ -27,8 +28,8 @@ import org.kapott.hbci.structures.Value;
 @Slf4j
 public class TransferJob extends AbstractPaymentJob<SinglePayment, GVUmbSEPA> {
 
-    public TransferJob(TransactionRequest<SinglePayment> transactionRequest) {
-        super(transactionRequest);
+    public TransferJob(TransactionRequest<SinglePayment> transactionRequest, HbciJobContext context) {
+        super(transactionRequest, context);
     }
 
     @Override
@@ -56,6 +56,8 @@ public class HbciConsent {
     private String hbciSysId;
 
     private LocalDateTime updCacheUpdateTime;
+    //content hash of the upd in the blob store, hbciUpd is only set without blob store
+    private String hbciUpdHash;
     private Map<String, String> hbciUpd;
 
     public void afterTransactionAuthorisation(ScaStatus scaStatus) {
@@ -76,6 +78,7 @@ public class HbciConsent {
             .ifPresent(cacheUpdateTime -> {
                 if (cacheUpdateTime.plus(updExpirationTimeMs, MILLIS).isBefore(LocalDateTime.now())) {
                     hbciUpd = null;
+                    hbciUpdHash = null;
                     log.debug("upd expired");
                 }
             });
@@ -40,7 +40,8 @@ import static de.adorsys.multibanking.domain.exception.MultibankingError.BANK_NO
 public class HbciDialogFactory {
 
     public static AbstractHbciDialog createDialog(HbciDialogType dialogType, HbciDialogRequest dialogRequest,
-                                                  HBCITwoStepMechanism twoStepMechanism) {
+                                                  HBCITwoStepMechanism twoStepMechanism,
+                                                  HbciCacheHandler cacheHandler) {
         String bankCode = Optional.ofNullable(dialogRequest.getBank().getBankApiBankCode())
             .orElse(dialogRequest.getBank().getBankCode());
 
@@ -59,10 +60,13 @@ public class HbciDialogFactory {
             .map(BankAccess::getHbciPassportState)
             .ifPresent(state -> HbciPassport.State.fromJson(state).apply(newPassport));
 
-        Optional.ofNullable(HbciCacheHandler.getBpdCache().get(bankCode))
+        Optional.ofNullable(cacheHandler.getBpdCache().get(bankCode))
             .ifPresent(newPassport::setBPD);
 
         Optional.ofNullable(hbciConsent.getHbciUpd())
+            .map(Optional::of)
+            .orElseGet(() -> Optional.ofNullable(hbciConsent.getHbciUpdHash())
+                .flatMap(cacheHandler::loadBlob))
             .ifPresent(newPassport::setUPD);
 
         Optional.ofNullable(hbciConsent.getHbciSysId())
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.multibanking.hbci.model;
+
+import lombok.Data;
+import lombok.Setter;
+import org.kapott.hbci.callback.AbstractHBCICallback;
+import org.kapott.hbci.callback.HBCICallback;
+import org.kapott.hbci.dialog.HBCIJobsDialog;
+import org.kapott.hbci.manager.HHDVersion;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Initialised jobs dialog which is kept open for the following jobs of the same consent.
+ */
+@Data
+public class HbciDialogSession {
+
+    private final String key;
+    private final String pin;
+    private final DelegatingCallback callback = new DelegatingCallback();
+    private HBCIJobsDialog dialog;
+    private long lastUsed;
+
+    /**
+     * The passport of the dialog keeps the callback it was created with, the job currently using the dialog is
+     * plugged in here.
+     */
+    public static class DelegatingCallback extends AbstractHBCICallback {
+
+        @Setter
+        private HBCICallback delegate;
+
+        @Override
+        public void tanChallengeCallback(String orderRef, String challengeInfo, String challengeHhdUc,
+                                         HHDVersion.Type type) {
+            Optional.ofNullable(delegate)
+                .ifPresent(callback -> callback.tanChallengeCallback(orderRef, challengeInfo, challengeHhdUc, type));
+        }
+
+        @Override
+        public void callback(int reason, List<String> messages, int datatype, StringBuilder retData) {
+            Optional.ofNullable(delegate)
+                .ifPresent(callback -> callback.callback(reason, messages, datatype, retData));
+        }
+
+        @Override
+        public void status(int statusTag, Object o) {
+            Optional.ofNullable(delegate)
+                .ifPresent(callback -> callback.status(statusTag, o));
+        }
+
+        @Override
+        public void status(int statusTag, Object[] o) {
+            Optional.ofNullable(delegate)
+                .ifPresent(callback -> callback.status(statusTag, o));
+        }
+    }
+}
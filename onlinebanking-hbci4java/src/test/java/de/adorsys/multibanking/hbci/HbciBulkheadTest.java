@@ -0,0 +1,141 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.multibanking.hbci;
+
+import de.adorsys.multibanking.domain.Bank;
+import de.adorsys.multibanking.domain.exception.MultibankingException;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+public class HbciBulkheadTest {
+
+    //unknown bank codes, the bank code is the bank host
+    private static final String BANK_CODE = "99990001";
+    private static final String OTHER_BANK_CODE = "99990002";
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final CountDownLatch jobsReleased = new CountDownLatch(1);
+    private final List<Long> queueTimes = new CopyOnWriteArrayList<>();
+
+    @After
+    public void cleanup() {
+        jobsReleased.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testLimitPerBankHost() throws Exception {
+        HbciBulkhead bulkhead = new HbciBulkhead(1, 0, 0, (host, queueTime) -> queueTimes.add(queueTime));
+        Future<String> runningJob = runBlockingJob(bulkhead, BANK_CODE);
+
+        assertThat(bulkhead.execute(bank(OTHER_BANK_CODE), () -> "other host")).isEqualTo("other host");
+        assertThat(rejectedJob(bulkhead, BANK_CODE).getHttpResponseCode()).isEqualTo(503);
+
+        jobsReleased.countDown();
+        assertThat(runningJob.get(5, TimeUnit.SECONDS)).isEqualTo(BANK_CODE);
+        assertThat(bulkhead.execute(bank(BANK_CODE), () -> "released")).isEqualTo("released");
+        assertThat(queueTimes).containsExactly(0L, 0L, 0L);
+    }
+
+    @Test
+    public void testRejectedIfQueueFull() throws Exception {
+        HbciBulkhead bulkhead = new HbciBulkhead(1, 1, TimeUnit.SECONDS.toMillis(10), null);
+        Future<String> runningJob = runBlockingJob(bulkhead, BANK_CODE);
+        AtomicReference<String> queuedResult = new AtomicReference<>();
+        Thread queuedJob = new Thread(() -> queuedResult.set(bulkhead.execute(bank(BANK_CODE), () -> "queued")));
+        queuedJob.start();
+        awaitWaiting(queuedJob);
+
+        assertThat(rejectedJob(bulkhead, BANK_CODE).getHttpResponseCode()).isEqualTo(503);
+
+        jobsReleased.countDown();
+        assertThat(runningJob.get(5, TimeUnit.SECONDS)).isEqualTo(BANK_CODE);
+        queuedJob.join(TimeUnit.SECONDS.toMillis(5));
+        assertThat(queuedResult.get()).isEqualTo("queued");
+    }
+
+    @Test
+    public void testRejectedAfterWaitTime() throws Exception {
+        HbciBulkhead bulkhead = new HbciBulkhead(1, 1, 50, (host, queueTime) -> queueTimes.add(queueTime));
+        runBlockingJob(bulkhead, BANK_CODE);
+
+        long start = System.currentTimeMillis();
+        assertThat(rejectedJob(bulkhead, BANK_CODE).getHttpResponseCode()).isEqualTo(503);
+
+        assertThat(System.currentTimeMillis() - start).isGreaterThanOrEqualTo(50);
+        assertThat(queueTimes).containsExactly(0L);
+    }
+
+    @Test
+    public void testNestedJobOfSameHostAdmitted() {
+        HbciBulkhead bulkhead = new HbciBulkhead(1, 0, 0, (host, queueTime) -> queueTimes.add(queueTime));
+
+        String result = bulkhead.execute(bank(BANK_CODE),
+            () -> bulkhead.execute(bank(BANK_CODE), () -> "nested"));
+
+        assertThat(result).isEqualTo("nested");
+        assertThat(queueTimes).containsExactly(0L);
+        //the permit is released after the outer job
+        assertThat(bulkhead.execute(bank(BANK_CODE), () -> "next")).isEqualTo("next");
+    }
+
+    private Future<String> runBlockingJob(HbciBulkhead bulkhead, String bankCode) throws InterruptedException {
+        CountDownLatch jobStarted = new CountDownLatch(1);
+        Future<String> job = executor.submit(() -> bulkhead.execute(bank(bankCode), () -> {
+            jobStarted.countDown();
+            try {
+                jobsReleased.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return bankCode;
+        }));
+        assertThat(jobStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        return job;
+    }
+
+    private void awaitWaiting(Thread job) throws InterruptedException {
+        //a job waits for a permit in the timed semaphore acquire
+        for (int i = 0; i < 500 && job.getState() != Thread.State.TIMED_WAITING; i++) {
+            Thread.sleep(10);
+        }
+        assertThat(job.getState()).isEqualTo(Thread.State.TIMED_WAITING);
+    }
+
+    private MultibankingException rejectedJob(HbciBulkhead bulkhead, String bankCode) {
+        return catchThrowableOfType(() -> bulkhead.execute(bank(bankCode), () -> "rejected"),
+            MultibankingException.class);
+    }
+
+    private Bank bank(String bankCode) {
+        Bank bank = new Bank();
+        bank.setBankCode(bankCode);
+        return bank;
+    }
+}
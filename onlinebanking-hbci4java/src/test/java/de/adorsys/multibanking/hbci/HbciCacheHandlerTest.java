@@ -0,0 +1,91 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.multibanking.hbci;
+
+import de.adorsys.multibanking.domain.Bank;
+import org.junit.Test;
+import org.kapott.hbci.passport.PinTanPassport;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class HbciCacheHandlerTest {
+
+    private static final String BANK_CODE = "76050101";
+
+    @Test
+    public void testFreshBpdLoadedFromStore() {
+        HbciBpdStore bpdStore = mock(HbciBpdStore.class);
+        Map<String, String> storedBpd = bpd(System.currentTimeMillis());
+        when(bpdStore.load(BANK_CODE)).thenReturn(Optional.of(storedBpd));
+        HbciCacheHandler cacheHandler = new HbciCacheHandler(bpdStore, TimeUnit.HOURS.toMillis(1), null);
+
+        assertThat(cacheHandler.getFreshBpd(bank())).contains(storedBpd);
+        assertThat(cacheHandler.getFreshBpd(bank())).contains(storedBpd);
+        verify(bpdStore, times(1)).load(BANK_CODE);
+    }
+
+    @Test
+    public void testExpiredBpdIgnored() {
+        HbciBpdStore bpdStore = mock(HbciBpdStore.class);
+        long lastUpdate = System.currentTimeMillis() - TimeUnit.HOURS.toMillis(2);
+        when(bpdStore.load(BANK_CODE)).thenReturn(Optional.of(bpd(lastUpdate)));
+        HbciCacheHandler cacheHandler = new HbciCacheHandler(bpdStore, TimeUnit.HOURS.toMillis(1), null);
+
+        assertThat(cacheHandler.getFreshBpd(bank())).isEmpty();
+
+        cacheHandler.refreshBpd(bank(), bpd(lastUpdate));
+
+        assertThat(cacheHandler.getFreshBpd(bank())).isPresent();
+        verify(bpdStore).store(eq(BANK_CODE), eq("42"), any(), any());
+    }
+
+    @Test
+    public void testBlobStoredOnceByContent() {
+        HbciBlobStore blobStore = mock(HbciBlobStore.class);
+        HbciCacheHandler cacheHandler = new HbciCacheHandler(null, 0, blobStore);
+
+        Map<String, String> upd = new HashMap<>();
+        upd.put("UPA.version", "7");
+        String hash = cacheHandler.storeBlob(upd);
+
+        assertThat(cacheHandler.storeBlob(new HashMap<>(upd))).isEqualTo(hash);
+        assertThat(cacheHandler.loadBlob(hash)).containsSame(upd);
+        verify(blobStore, times(1)).store(hash, upd);
+        verify(blobStore, never()).load(any());
+    }
+
+    private Bank bank() {
+        Bank bank = new Bank();
+        bank.setBankCode(BANK_CODE);
+        return bank;
+    }
+
+    private Map<String, String> bpd(long lastUpdate) {
+        Map<String, String> bpd = new HashMap<>();
+        bpd.put("BPA.version", "42");
+        bpd.put(PinTanPassport.BPD_KEY_LASTUPDATE, String.valueOf(lastUpdate));
+        return bpd;
+    }
+}
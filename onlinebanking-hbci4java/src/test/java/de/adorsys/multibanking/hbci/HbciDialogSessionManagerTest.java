@@ -0,0 +1,93 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.multibanking.hbci;
+
+import de.adorsys.multibanking.domain.Bank;
+import de.adorsys.multibanking.domain.Credentials;
+import de.adorsys.multibanking.hbci.model.HbciDialogSession;
+import org.junit.After;
+import org.junit.Test;
+import org.kapott.hbci.dialog.HBCIJobsDialog;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+public class HbciDialogSessionManagerTest {
+
+    private HbciDialogSessionManager sessionManager = new HbciDialogSessionManager(0);
+
+    @After
+    public void cleanup() {
+        //ends the sessions left open by a test
+        sessionManager.close();
+    }
+
+    @Test
+    public void testReleasedDialogReused() {
+        sessionManager = new HbciDialogSessionManager(TimeUnit.MINUTES.toMillis(1));
+        HbciDialogSession session = openSession("pin");
+
+        sessionManager.release(session);
+
+        assertThat(sessionManager.borrow(bank(), credentials("wrong"))).isEmpty();
+        assertThat(sessionManager.borrow(bank(), credentials("pin"))).contains(session);
+        assertThat(sessionManager.borrow(bank(), credentials("pin"))).isEmpty();
+        verify(session.getDialog(), never()).dialogEnd();
+    }
+
+    @Test
+    public void testDialogEndedWithoutIdleTime() {
+        HbciDialogSession session = openSession("pin");
+
+        sessionManager.release(session);
+
+        assertThat(sessionManager.borrow(bank(), credentials("pin"))).isEmpty();
+        verify(session.getDialog()).dialogEnd();
+    }
+
+    @Test
+    public void testExpiredDialogEndedWithoutFurtherJob() {
+        sessionManager = new HbciDialogSessionManager(50);
+        HbciDialogSession session = openSession("pin");
+
+        sessionManager.release(session);
+
+        verify(session.getDialog(), timeout(TimeUnit.SECONDS.toMillis(5))).dialogEnd();
+        assertThat(sessionManager.borrow(bank(), credentials("pin"))).isEmpty();
+    }
+
+    private HbciDialogSession openSession(String pin) {
+        HbciDialogSession session = sessionManager.createSession(bank(), credentials(pin));
+        session.setDialog(mock(HBCIJobsDialog.class));
+        return session;
+    }
+
+    private Bank bank() {
+        Bank bank = new Bank();
+        bank.setBankCode("76050101");
+        return bank;
+    }
+
+    private Credentials credentials(String pin) {
+        return Credentials.builder()
+            .userId("user")
+            .pin(pin)
+            .build();
+    }
+}
@@ -41,7 +41,6 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Stream;
 
-import static de.adorsys.multibanking.hbci.HbciCacheHandler.*;
 import static java.nio.charset.StandardCharsets.ISO_8859_1;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.kapott.hbci.manager.HBCIVersion.HBCI_300;
@@ -59,7 +58,10 @@ public class HbciIntegrationIT {
     private String psuCorporateIdMSCA;
     private String pinMSCA;
 
-    private final HbciBanking hbci4JavaBanking = new HbciBanking(null, 0, 0);
+    private final HbciJobContext jobContext = new HbciJobContext(new HbciCacheHandler(null, 0, null),
+        new HbciDialogSessionManager(0), new HbciBulkhead(0, 0, 0, null));
+    private final HbciBanking hbci4JavaBanking = new HbciBanking(null, null, 0, 0, jobContext.getCacheHandler(),
+        jobContext.getDialogSessionManager(), jobContext.getBulkhead());
 
     private static String readFile(String filePath) {
         StringBuilder contentBuilder = new StringBuilder();
@@ -194,8 +196,8 @@ public class HbciIntegrationIT {
         loadVeuList.setPsuAccount(createBankAccount());
         TransactionRequest<LoadVeuList> loadVeuListRequest = TransactionRequestFactory.create(loadVeuList, null, bankAccess, bank, hbciConsent);
 
-        HbciBpdUpdCallback hbciCallback = createCallback(loadVeuListRequest.getBank());
-        VeuListResponse response = new VeuListJob(loadVeuListRequest).execute(hbciCallback);
+        HbciBpdUpdCallback hbciCallback = jobContext.getCacheHandler().createCallback(loadVeuListRequest.getBank());
+        VeuListResponse response = new VeuListJob(loadVeuListRequest, jobContext).execute(hbciCallback);
 
         System.out.println();
     }
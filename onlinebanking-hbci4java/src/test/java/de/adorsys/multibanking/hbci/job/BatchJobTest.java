@@ -0,0 +1,99 @@
+package de.adorsys.multibanking.hbci.job;
+
+import de.adorsys.multibanking.domain.BankAccess;
+import de.adorsys.multibanking.domain.request.TransactionRequest;
+import de.adorsys.multibanking.domain.response.AccountInformationResponse;
+import de.adorsys.multibanking.domain.response.AuthorisationCodeResponse;
+import de.adorsys.multibanking.domain.transaction.LoadAccounts;
+import de.adorsys.multibanking.hbci.HbciJobContext;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class BatchJobTest {
+
+    @Test
+    public void testBatchedJobsExecutedWithLeadingJob() {
+        AccountInformationResponse leadingResponse = response("leadingResponse");
+        AccountInformationResponse batchedResponse = response("batchedResponse");
+        AccountInformationResponse ownResponse = response("ownResponse");
+
+        ScaAwareJob<LoadAccounts, AccountInformationResponse> leadingJob = job();
+        ScaAwareJob<LoadAccounts, AccountInformationResponse> batchedJob = job();
+        ScaAwareJob<LoadAccounts, AccountInformationResponse> ownJob = job();
+        doAnswer(invocation -> {
+            batchedJob.batchedResponse = batchedResponse;
+            return leadingResponse;
+        }).when(leadingJob).execute(any());
+        doReturn(ownResponse).when(ownJob).execute(any());
+
+        BatchJob.BatchResponse batchResponse = new BatchJob(Arrays.asList(leadingJob, batchedJob, ownJob)).execute(null);
+
+        assertThat(batchResponse.getResponses()).containsExactly(leadingResponse, batchedResponse, ownResponse);
+        assertThat(batchResponse.getUnexecutedRequests()).isEmpty();
+        assertThat(batchResponse.isScaRequired()).isFalse();
+        assertThat(leadingJob.batchedJobs).containsExactly(batchedJob, ownJob);
+        verify(batchedJob, never()).execute(any());
+    }
+
+    @Test
+    public void testJobsAfterScaNotExecuted() {
+        AccountInformationResponse leadingResponse = response("leadingResponse");
+        AccountInformationResponse scaResponse = response("scaResponse");
+        scaResponse.setAuthorisationCodeResponse(new AuthorisationCodeResponse(new Object(), null));
+        AccountInformationResponse batchedResponse = response("batchedResponse");
+
+        ScaAwareJob<LoadAccounts, AccountInformationResponse> leadingJob = job();
+        ScaAwareJob<LoadAccounts, AccountInformationResponse> scaJob = job();
+        ScaAwareJob<LoadAccounts, AccountInformationResponse> batchedJob = job();
+        ScaAwareJob<LoadAccounts, AccountInformationResponse> unexecutedJob = job();
+        doAnswer(invocation -> {
+            batchedJob.batchedResponse = batchedResponse;
+            return leadingResponse;
+        }).when(leadingJob).execute(any());
+        doReturn(scaResponse).when(scaJob).execute(any());
+
+        BatchJob.BatchResponse batchResponse =
+            new BatchJob(Arrays.asList(leadingJob, scaJob, batchedJob, unexecutedJob)).execute(null);
+
+        //the batched job was already sent with the message of the leading job
+        assertThat(batchResponse.getResponses()).containsExactly(leadingResponse, scaResponse, batchedResponse, null);
+        assertThat(batchResponse.getUnexecutedRequests()).containsExactly(unexecutedJob.transactionRequest);
+        assertThat(batchResponse.isScaRequired()).isTrue();
+        verify(unexecutedJob, never()).execute(any());
+    }
+
+    @Test
+    public void testScaForLeadingJob() {
+        AccountInformationResponse scaResponse = response("scaResponse");
+        scaResponse.setAuthorisationCodeResponse(new AuthorisationCodeResponse(new Object(), null));
+
+        ScaAwareJob<LoadAccounts, AccountInformationResponse> leadingJob = job();
+        ScaAwareJob<LoadAccounts, AccountInformationResponse> followingJob = job();
+        doReturn(scaResponse).when(leadingJob).execute(any());
+
+        BatchJob.BatchResponse batchResponse = new BatchJob(Arrays.asList(leadingJob, followingJob)).execute(null);
+
+        assertThat(batchResponse.getResponses()).containsExactly(scaResponse, null);
+        assertThat(batchResponse.getUnexecutedRequests()).containsExactly(followingJob.transactionRequest);
+        assertThat(batchResponse.isScaRequired()).isTrue();
+        verify(followingJob, never()).execute(any());
+    }
+
+    private ScaAwareJob<LoadAccounts, AccountInformationResponse> job() {
+        return mock(AccountInformationJob.class,
+            withSettings()
+                .useConstructor(new TransactionRequest<>(new LoadAccounts()), new HbciJobContext(null, null, null))
+                .defaultAnswer(CALLS_REAL_METHODS));
+    }
+
+    private AccountInformationResponse response(String bankName) {
+        BankAccess bankAccess = new BankAccess();
+        bankAccess.setBankName(bankName);
+        return AccountInformationResponse.builder().bankAccess(bankAccess).build();
+    }
+}
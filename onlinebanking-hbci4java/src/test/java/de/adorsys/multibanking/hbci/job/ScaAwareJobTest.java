@@ -1,28 +1,49 @@
 package de.adorsys.multibanking.hbci.job;
 
-import de.adorsys.multibanking.domain.exception.MultibankingException;
+import de.adorsys.multibanking.domain.Bank;
+import de.adorsys.multibanking.domain.Credentials;
 import de.adorsys.multibanking.domain.request.TransactionRequest;
 import de.adorsys.multibanking.domain.response.AccountInformationResponse;
 import de.adorsys.multibanking.domain.transaction.LoadAccounts;
+import de.adorsys.multibanking.hbci.HbciBulkhead;
+import de.adorsys.multibanking.hbci.HbciCacheHandler;
+import de.adorsys.multibanking.hbci.HbciDialogSessionManager;
+import de.adorsys.multibanking.hbci.HbciJobContext;
+import de.adorsys.multibanking.hbci.model.HbciConsent;
+import de.adorsys.multibanking.hbci.model.HbciDialogSession;
+import org.junit.After;
 import org.junit.Test;
+import org.kapott.hbci.GV.AbstractHBCIJob;
 import org.kapott.hbci.dialog.AbstractHbciDialog;
 import org.kapott.hbci.dialog.HBCIJobsDialog;
 import org.kapott.hbci.passport.PinTanPassport;
+import org.kapott.hbci.status.HBCIExecStatus;
 import org.mockito.internal.util.reflection.FieldSetter;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertNull;
-
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 public class ScaAwareJobTest {
 
+    private HbciDialogSessionManager sessionManager = new HbciDialogSessionManager(0);
+
+    @After
+    public void cleanup() {
+        //ends the sessions left open by a test
+        sessionManager.close();
+    }
+
     @Test
     public void testGetKontoFailure() throws NoSuchFieldException {
         ScaAwareJob<LoadAccounts, AccountInformationResponse> job = mock(AccountInformationJob.class,
             withSettings()
-                .useConstructor(new TransactionRequest<>(new LoadAccounts()))
+                .useConstructor(new TransactionRequest<>(new LoadAccounts()), jobContext())
                 .defaultAnswer(CALLS_REAL_METHODS));
 
         AbstractHbciDialog dialog = mock(HBCIJobsDialog.class);
@@ -32,4 +53,111 @@ public class ScaAwareJobTest {
 
         assertNull("HbciKonto must be null", job.getHbciKonto());
     }
+
+    @Test
+    public void testBorrowedDialogReleasedOnce() {
+        sessionManager = new HbciDialogSessionManager(TimeUnit.MINUTES.toMillis(1));
+        HbciDialogSession session = openSession(executableDialog());
+        ScaAwareJob<LoadAccounts, AccountInformationResponse> job = accountInformationJob();
+
+        job.execute(null);
+        job.closeDialog();
+
+        verify(session.getDialog()).execute(false);
+        verify(session.getDialog(), never()).dialogEnd();
+        assertThat(sessionManager.borrow(bank(), credentials())).contains(session);
+        assertThat(sessionManager.borrow(bank(), credentials())).isEmpty();
+    }
+
+    @Test
+    public void testStaleDialogReplacedByNewDialog() {
+        sessionManager = new HbciDialogSessionManager(TimeUnit.MINUTES.toMillis(1));
+        HBCIJobsDialog staleDialog = executableDialog();
+        when(staleDialog.execute(false)).thenThrow(new IllegalStateException("connection reset"));
+        HbciDialogSession session = openSession(staleDialog);
+        HBCIJobsDialog newDialog = executableDialog();
+        ScaAwareJob<LoadAccounts, AccountInformationResponse> job = accountInformationJob();
+        doAnswer(invocation -> {
+            job.continueDialog(newDialog);
+            return null;
+        }).when(job).initDialog(any());
+
+        job.execute(null);
+
+        verify(staleDialog).dialogEnd();
+        verify(newDialog).execute(false);
+        verify(newDialog).dialogEnd();
+        //the hbci job is created again for the passport of the new dialog
+        verify(job, times(2)).createHbciJob();
+        assertThat(sessionManager.borrow(bank(), credentials())).isEmpty();
+        assertThat(session.getDialog()).isSameAs(staleDialog);
+    }
+
+    @Test
+    public void testHandedOverDialogNotClosed() {
+        sessionManager = new HbciDialogSessionManager(TimeUnit.MINUTES.toMillis(1));
+        HBCIJobsDialog dialog = executableDialog();
+        ScaAwareJob<LoadAccounts, AccountInformationResponse> job = accountInformationJob();
+        job.dialog = dialog;
+
+        job.execute(null);
+        job.closeDialog();
+
+        verify(dialog).execute(false);
+        verify(dialog, never()).dialogEnd();
+        assertThat(sessionManager.borrow(bank(), credentials())).isEmpty();
+    }
+
+    private ScaAwareJob<LoadAccounts, AccountInformationResponse> accountInformationJob() {
+        HbciConsent consent = new HbciConsent();
+        consent.setCredentials(credentials());
+
+        TransactionRequest<LoadAccounts> request = new TransactionRequest<>(new LoadAccounts());
+        request.setBank(bank());
+        request.setBankApiConsentData(consent);
+
+        ScaAwareJob<LoadAccounts, AccountInformationResponse> job = mock(AccountInformationJob.class,
+            withSettings()
+                .useConstructor(request, jobContext())
+                .defaultAnswer(CALLS_REAL_METHODS));
+        doAnswer(invocation -> mock(AbstractHBCIJob.class)).when(job).createHbciJob();
+        doAnswer(invocation -> AccountInformationResponse.builder().build()).when(job).createJobResponse();
+        return job;
+    }
+
+    private HbciJobContext jobContext() {
+        return new HbciJobContext(new HbciCacheHandler(null, 0, null), sessionManager,
+            new HbciBulkhead(0, 0, 0, null));
+    }
+
+    private HBCIJobsDialog executableDialog() {
+        HBCIExecStatus execStatus = mock(HBCIExecStatus.class);
+        when(execStatus.isOK()).thenReturn(true);
+        when(execStatus.getMsgStatusList()).thenReturn(Collections.emptyList());
+
+        HBCIJobsDialog dialog = mock(HBCIJobsDialog.class);
+        when(dialog.getPassport()).thenReturn(mock(PinTanPassport.class));
+        when(dialog.execute(false)).thenReturn(execStatus);
+        return dialog;
+    }
+
+    private HbciDialogSession openSession(HBCIJobsDialog dialog) {
+        HbciDialogSession session = sessionManager.createSession(bank(), credentials());
+        session.setDialog(dialog);
+        sessionManager.release(session);
+        return session;
+    }
+
+    private Bank bank() {
+        Bank bank = new Bank();
+        bank.setBankCode("76050101");
+        return bank;
+    }
+
+    private Credentials credentials() {
+        return Credentials.builder()
+            .userId("user")
+            .pin("pin")
+            .build();
+    }
 }
@@ -10,6 +10,7 @@ import de.adorsys.multibanking.domain.response.*;
 import de.adorsys.multibanking.domain.spi.OnlineBankingService;
 import de.adorsys.multibanking.domain.spi.StrongCustomerAuthorisable;
 import de.adorsys.multibanking.domain.transaction.*;
+import de.adorsys.multibanking.domain.utils.AccountResourceIdCache;
 import de.adorsys.multibanking.ing.api.Account;
 import de.adorsys.multibanking.ing.api.AccountsResponse;
 import de.adorsys.multibanking.ing.api.Balance;
@@ -35,9 +36,14 @@ import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLSocketFactory;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.security.PrivateKey;
 import java.security.cert.X509Certificate;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import static de.adorsys.multibanking.domain.BankApi.ING;
 import static de.adorsys.multibanking.domain.exception.MultibankingError.INTERNAL_ERROR;
@@ -51,6 +57,8 @@ public class IngAdapter implements OnlineBankingService {
     private static final String ACCOUNTS_ENDPOINT = "/v2/accounts";
     private static final String TRANSACTIONS_ENDPOINT = "/v2/accounts/{{accountId}}/transactions";
     private static final String BALANCES_ENDPOINT = "/v3/accounts/{{accountId}}/balances";
+    private static final long ACCOUNT_RESOURCE_IDS_LIFETIME_MS = TimeUnit.HOURS.toMillis(1);
+    private static final long UNKNOWN_IBAN_LIFETIME_MS = TimeUnit.MINUTES.toMillis(5);
 
     @NonNull
     private final String ingBaseUrl;
@@ -74,6 +82,9 @@ public class IngAdapter implements OnlineBankingService {
     @Getter(lazy = true, value = AccessLevel.PRIVATE)
     private final IngScaHandler ingScaHandler = new IngScaHandler(getIngSessionHandler());
 
+    private final AccountResourceIdCache accountResourceIdCache = new AccountResourceIdCache(ACCOUNT_RESOURCE_IDS_LIFETIME_MS,
+        UNKNOWN_IBAN_LIFETIME_MS);
+
     private IngMapper ingMapper = new IngMapperImpl();
 
     @Override
@@ -136,7 +147,7 @@ public class IngAdapter implements OnlineBankingService {
         String resourceId =
             Optional.ofNullable(loadTransactionsRequest.getTransaction().getPsuAccount().getExternalIdMap().get(bankApi()))
                 .orElseGet(() -> getAccountResourceId(loadTransactionsRequest.getBankAccess().getIban(),
-                    clientAuthentication).toString());
+                    ingSessionData, clientAuthentication));
 
         Map<String, Object> queryParams = new LinkedHashMap<>();
         queryParams.put("dateFrom", loadTransactionsRequest.getTransaction().getDateFrom());
@@ -195,17 +206,33 @@ public class IngAdapter implements OnlineBankingService {
         return balancesReport;
     }
 
-    private UUID getAccountResourceId(String iban, ClientAuthentication clientAuthentication) {
-        return getHttpClient().get(ingBaseUrl + ACCOUNTS_ENDPOINT)
-            .send(clientAuthentication, jsonResponseHandler(AccountsResponse.class))
-            .getBody().getAccounts()
-            .stream()
-            .filter(accountDetails -> accountDetails.getIban().equals(iban))
-            .findAny()
-            .map(Account::getResourceId)
+    // the access token is bound to the consent, only its hash is kept as cache key
+    private String getAccountResourceId(String iban, IngSessionData ingSessionData,
+                                        ClientAuthentication clientAuthentication) {
+        return accountResourceIdCache.getResourceId(sha256(ingSessionData.getAccessToken()), iban,
+            () -> getHttpClient().get(ingBaseUrl + ACCOUNTS_ENDPOINT)
+                .send(clientAuthentication, jsonResponseHandler(AccountsResponse.class))
+                .getBody().getAccounts()
+                .stream()
+                .filter(accountDetails -> accountDetails.getIban() != null && accountDetails.getResourceId() != null)
+                .collect(Collectors.toMap(Account::getIban, account -> account.getResourceId().toString(),
+                    (resourceId, duplicateResourceId) -> resourceId)))
             .orElseThrow(() -> new MultibankingException(INVALID_ACCOUNT_REFERENCE));
     }
 
+    private String sha256(String accessToken) {
+        if (accessToken == null) {
+            return null;
+        }
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(accessToken.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            log.error(e.getMessage(), e);
+            throw new MultibankingException(INTERNAL_ERROR, e.getMessage());
+        }
+    }
+
     @Override
     public boolean bankSupported(String bankCode) {
         return true;
@@ -86,6 +86,7 @@ interface IngMapper {
     @Mapping(target = "owner", ignore = true)
     @Mapping(target = "syncStatus", ignore = true)
     @Mapping(target = "lastSync", ignore = true)
+    @Mapping(target = "lastAnalytics", ignore = true)
     @Mapping(target = "balances", ignore = true)
     @Mapping(target = "externalIdMap", expression = "java(getExternalIdMap(accountDetails.getResourceId().toString()))")
     @Mapping(target = "blz", expression = "java(getBlz(accountDetails))")
@@ -20,7 +20,7 @@ import de.adorsys.multibanking.domain.Balance;
 import de.adorsys.multibanking.domain.BalancesReport;
 import de.adorsys.multibanking.domain.BankAccount;
 import de.adorsys.multibanking.domain.Booking;
-import de.adorsys.multibanking.domain.utils.Utils;
+import de.adorsys.multibanking.domain.utils.SepaUsageFields;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.text.WordUtils;
 import org.kapott.hbci.GV_Result.GVRKUms;
@@ -35,8 +35,7 @@ import org.mapstruct.Mapping;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
-
-import static de.adorsys.multibanking.domain.utils.Utils.extractIban;
+import java.util.ListIterator;
 
 @Mapper(imports = {BigDecimal.class, HBCIUtils.class})
 public interface AccountStatementMapper {
@@ -67,25 +66,31 @@ public interface AccountStatementMapper {
     Balance toBalance(Saldo saldo);
 
     default List<Booking> createBookings(GVRKUms gvrkUms) {
-        List<Booking> bookings = new ArrayList<>();
         List<GVRKUms.UmsLine> lines = gvrkUms.getFlatData();
-        for (GVRKUms.UmsLine line : lines) {
+        List<Booking> bookings = new ArrayList<>(lines.size());
+        //latest booking first
+        for (ListIterator<GVRKUms.UmsLine> iterator = lines.listIterator(lines.size()); iterator.hasPrevious(); ) {
+            GVRKUms.UmsLine line = iterator.previous();
             Booking booking = toBooking(line);
+            //one scan of the usage for all sepa fields
+            SepaUsageFields usageFields = SepaUsageFields.parse(booking.getUsage());
+            booking.setCreditorId(usageFields.getCreditorId());
+            booking.setMandateReference(usageFields.getMandateReference());
             if (line != null && line.other != null) {
                 booking.setOtherAccount(toBankAccount(line.other));
 
-                String differentInitiator = Utils.extractDifferentInitiator(booking.getUsage());
+                String differentInitiator = usageFields.getDifferentInitiator();
                 if (differentInitiator != null) {
                     booking.getOtherAccount().setOwner(booking.getOtherAccount().getOwner() + " " + differentInitiator);
                 }
 
                 if (StringUtils.isBlank(booking.getOtherAccount().getIban())) {
-                    booking.getOtherAccount().setIban(extractIban(booking.getUsage()));
+                    booking.getOtherAccount().setIban(usageFields.getIban());
                 }
 
             }
 
-            bookings.add(0, booking);
+            bookings.add(booking);
         }
 
         return bookings;
@@ -102,6 +107,7 @@ public interface AccountStatementMapper {
     @Mapping(target = "externalIdMap", ignore = true)
     @Mapping(target = "syncStatus", ignore = true)
     @Mapping(target = "lastSync", ignore = true)
+    @Mapping(target = "lastAnalytics", ignore = true)
     BankAccount toBankAccount(Konto konto);
 
     @Mapping(target = "bankApi", constant = "HBCI")
@@ -118,10 +124,8 @@ public interface AccountStatementMapper {
         ".getLongValue() + \"_\" + line.saldo.value.getLongValue())")
     @Mapping(target = "origValue", expression = "java(line.orig_value == null ? null : new BigDecimal(HBCIUtils.bigDecimal2String(line.orig_value.getBigDecimalValue())))")
     @Mapping(target = "chargeValue", expression = "java(line.charge_value == null ? null : new BigDecimal(HBCIUtils.bigDecimal2String(line.charge_value.getBigDecimalValue())))")
-    @Mapping(target = "creditorId", expression = "java(de.adorsys.multibanking.domain.utils.Utils.extractCreditorId" +
-        "(booking.getUsage()))")
-    @Mapping(target = "mandateReference", expression = "java(de.adorsys.multibanking.domain.utils.Utils" +
-        ".extractMandateReference(booking.getUsage()))")
+    @Mapping(target = "creditorId", ignore = true)
+    @Mapping(target = "mandateReference", ignore = true)
     @Mapping(target = "otherAccount", ignore = true)
     @Mapping(target = "standingOrder", ignore = true)
     @Mapping(target = "bookingCategory", ignore = true)
@@ -139,6 +143,7 @@ public interface AccountStatementMapper {
             }
         }
 
+        //stored usage format, shown by clients and matched by the booking categorisation rules
         return WordUtils.capitalizeFully(sb.toString().trim(), ' ', '/');
     }
 
@@ -0,0 +1,73 @@
+package de.adorsys.multibanking.mapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Utf-8 encoded bytes of a reader, encoded chunk by chunk instead of copying the whole text into a byte array.
+ */
+class ReaderInputStream extends InputStream {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Reader reader;
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+        .onMalformedInput(CodingErrorAction.REPLACE)
+        .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private final CharBuffer chars = CharBuffer.allocate(BUFFER_SIZE);
+    private final ByteBuffer bytes = ByteBuffer.allocate(BUFFER_SIZE * 4);
+    private boolean endOfInput;
+
+    ReaderInputStream(Reader reader) {
+        this.reader = reader;
+        chars.flip();
+        bytes.flip();
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] single = new byte[1];
+        return read(single, 0, 1) == -1 ? -1 : single[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        while (!bytes.hasRemaining()) {
+            if (endOfInput && !chars.hasRemaining()) {
+                return -1;
+            }
+            fill();
+        }
+        int count = Math.min(length, bytes.remaining());
+        bytes.get(buffer, offset, count);
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void fill() throws IOException {
+        chars.compact();
+        int read = endOfInput ? -1 : reader.read(chars);
+        chars.flip();
+        endOfInput = read == -1;
+
+        bytes.compact();
+        encoder.encode(chars, bytes, endOfInput);
+        if (endOfInput) {
+            encoder.flush(bytes);
+        }
+        bytes.flip();
+    }
+}
@@ -4,6 +4,7 @@ import de.adorsys.multibanking.domain.BalancesReport;
 import de.adorsys.multibanking.domain.BankApi;
 import de.adorsys.multibanking.domain.Booking;
 import de.adorsys.multibanking.domain.response.TransactionsResponse;
+import org.apache.commons.lang3.StringUtils;
 import org.kapott.hbci.GV.parsers.ISEPAParser;
 import org.kapott.hbci.GV.parsers.SEPAParserFactory;
 import org.kapott.hbci.GV_Result.GVRKUms;
@@ -11,33 +12,180 @@ import org.kapott.hbci.sepa.SepaVersion;
 import org.kapott.hbci.structures.Saldo;
 import org.kapott.hbci.swift.Swift;
 
-import java.io.ByteArrayInputStream;
+import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 public class TransactionsParser {
 
     private TransactionsParser(){}
 
+    private static final int SEPA_VERSION_DETECTION_LIMIT = 8192;
+    private static final String XML_DECLARATION = "<?xml";
+    private static final int CAMT_PARSER_QUEUE_SIZE = 64;
+    private static final ExecutorService CAMT_PARSER_EXECUTOR = createCamtParserExecutor();
+
     private static AccountStatementMapper accountStatementMapper = new AccountStatementMapperImpl();
 
-    @SuppressWarnings("unchecked")
     public static TransactionsResponse camtStringToLoadBookingsResponse(String body) {
-        SepaVersion version = SepaVersion.autodetect(body);
+        List<String> documents = splitCamtDocuments(body);
+        GVRKUms bookingsResult = documents.size() > 1 ? parseCamtDocuments(documents) : parseCamt(body);
+        return jobresultToLoadBookingsResponse(bookingsResult, Collections.singletonList(body));
+    }
+
+    /**
+     * Parses the camt document while it is read, the raw data is not kept.
+     */
+    public static TransactionsResponse camtStreamToLoadBookingsResponse(InputStream camt) throws IOException {
+        BufferedInputStream stream = new BufferedInputStream(camt);
+        GVRKUms bookingsResult = parseCamt(detectSepaVersion(stream), stream);
+        return jobresultToLoadBookingsResponse(bookingsResult, null);
+    }
+
+    public static TransactionsResponse mt940StringToLoadBookingsResponse(String body) {
+        try {
+            GVRKUms bookingsResult = parseMt940(new StringReader(body));
+            return jobresultToLoadBookingsResponse(bookingsResult, Collections.singletonList(body));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Parses the mt940 statements while they are read, the raw data is not kept.
+     */
+    public static TransactionsResponse mt940StreamToLoadBookingsResponse(Reader mt940) throws IOException {
+        return jobresultToLoadBookingsResponse(parseMt940(mt940), null);
+    }
+
+    //concatenated documents, each starts with its xml declaration
+    private static List<String> splitCamtDocuments(String body) {
+        int start = body.indexOf(XML_DECLARATION);
+        if (start < 0 || body.indexOf(XML_DECLARATION, start + 1) < 0) {
+            return Collections.singletonList(body);
+        }
+
+        List<String> documents = new ArrayList<>();
+        int next;
+        while ((next = body.indexOf(XML_DECLARATION, start + 1)) > 0) {
+            documents.add(body.substring(start, next));
+            start = next;
+        }
+        documents.add(body.substring(start));
+        return documents;
+    }
+
+    /**
+     * Bounded pool for the documents of concatenated camt responses, documents beyond the queue are parsed in the
+     * caller thread. Idle threads end, the daemon threads never keep the application alive.
+     */
+    private static ExecutorService createCamtParserExecutor() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "camt-parser-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        int threads = Runtime.getRuntime().availableProcessors();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(CAMT_PARSER_QUEUE_SIZE), threadFactory, new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static GVRKUms parseCamtDocuments(List<String> documents) {
+        List<CompletableFuture<GVRKUms>> documentResults = documents.stream()
+            .map(document -> CompletableFuture.supplyAsync(() -> parseCamt(document), CAMT_PARSER_EXECUTOR))
+            .collect(Collectors.toList());
+
+        GVRKUms bookingsResult = new GVRKUms(null);
+        documentResults.forEach(documentResult -> bookingsResult.getDataPerDay().addAll(join(documentResult).getDataPerDay()));
+        bookingsResult.getDataPerDay().sort(Comparator.comparing(TransactionsParser::getBookingDay,
+            Comparator.nullsFirst(Comparator.naturalOrder())));
+        return bookingsResult;
+    }
+
+    private static GVRKUms join(CompletableFuture<GVRKUms> documentResult) {
+        try {
+            return documentResult.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+    }
+
+    private static Date getBookingDay(GVRKUms.BTag bookingDay) {
+        if (bookingDay.start != null && bookingDay.start.timestamp != null) {
+            return bookingDay.start.timestamp;
+        }
+        if (bookingDay.end != null && bookingDay.end.timestamp != null) {
+            return bookingDay.end.timestamp;
+        }
+        return bookingDay.lines.isEmpty() ? null : bookingDay.lines.get(0).bdate;
+    }
+
+    private static GVRKUms parseCamt(String document) {
+        return parseCamt(SepaVersion.autodetect(document), new ReaderInputStream(new StringReader(document)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static GVRKUms parseCamt(SepaVersion version, InputStream camt) {
         ISEPAParser<List<GVRKUms.BTag>> parser = SEPAParserFactory.get(version);
         GVRKUms bookingsResult = new GVRKUms(null);
-        parser.parse(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), bookingsResult.getDataPerDay());
-        return jobresultToLoadBookingsResponse(bookingsResult, body);
+        parser.parse(camt, bookingsResult.getDataPerDay());
+        return bookingsResult;
     }
 
-    public static TransactionsResponse mt940StringToLoadBookingsResponse(String body) {
+    //the namespace of the root element names the camt version
+    private static SepaVersion detectSepaVersion(BufferedInputStream camt) throws IOException {
+        camt.mark(SEPA_VERSION_DETECTION_LIMIT);
+        byte[] head = new byte[SEPA_VERSION_DETECTION_LIMIT];
+        int length = 0;
+        int read;
+        while (length < head.length && (read = camt.read(head, length, head.length - length)) != -1) {
+            length += read;
+        }
+        camt.reset();
+        return SepaVersion.autodetect(new String(head, 0, length, StandardCharsets.UTF_8));
+    }
+
+    //statements are decoded and parsed one by one, only the current statement is buffered
+    private static GVRKUms parseMt940(Reader mt940) throws IOException {
         GVRKUms bookingsResult = new GVRKUms(null);
-        bookingsResult.appendMt940raw(new StringBuilder(Swift.decodeUmlauts(body)));
-        return jobresultToLoadBookingsResponse(bookingsResult, body);
+        BufferedReader reader = new BufferedReader(mt940);
+        StringBuilder statement = new StringBuilder();
+        int lineStart = 0;
+        int c;
+        while ((c = reader.read()) != -1) {
+            statement.append((char) c);
+            if (c != '\n') {
+                continue;
+            }
+            if (isMt940StatementEnd(statement, lineStart)) {
+                appendMt940Statement(bookingsResult, statement);
+                lineStart = 0;
+            } else {
+                lineStart = statement.length();
+            }
+        }
+        if (StringUtils.isNotBlank(statement)) {
+            appendMt940Statement(bookingsResult, statement);
+        }
+        return bookingsResult;
+    }
+
+    private static boolean isMt940StatementEnd(StringBuilder statement, int lineStart) {
+        return "-".equals(statement.substring(lineStart).trim());
+    }
+
+    private static void appendMt940Statement(GVRKUms bookingsResult, StringBuilder statement) {
+        bookingsResult.appendMt940raw(new StringBuilder(Swift.decodeUmlauts(statement.toString())));
+        statement.setLength(0);
     }
 
-    private static TransactionsResponse jobresultToLoadBookingsResponse(GVRKUms bookingsResult, String raw) {
+    private static TransactionsResponse jobresultToLoadBookingsResponse(GVRKUms bookingsResult, List<String> raw) {
         List<Booking> bookings = accountStatementMapper.createBookings(bookingsResult).stream()
             .collect(Collectors.collectingAndThen(Collectors.toCollection(
                 () -> new TreeSet<>(Comparator.comparing(Booking::getExternalId))), ArrayList::new));
@@ -57,7 +205,7 @@ public class TransactionsParser {
         return TransactionsResponse.builder()
             .bookings(bookings)
             .balancesReport(balancesReport)
-            .rawData(Collections.singletonList(raw))
+            .rawData(raw)
             .build();
     }
 